@@ -1,20 +1,14 @@
 package com.crcs.apigateway.filter;
 
+import com.crcs.apigateway.security.JwtVerifier;
+import com.crcs.apigateway.security.TokenEpochRegistry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
-
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
 
 /**
  * Role-based authorization filter for API Gateway
@@ -23,32 +17,12 @@ import java.util.Base64;
 @Component
 public class RoleBasedGatewayFilterFactory extends AbstractGatewayFilterFactory<Object> {
 
-    private final WebClient webClient;
-    private final SecretKey secretKey;
+    private final JwtVerifier jwtVerifier;
+    private final TokenEpochRegistry tokenEpochRegistry;
 
-    public RoleBasedGatewayFilterFactory(WebClient.Builder webClientBuilder,
-                                        @Value("${auth.service.url}") String authServiceUrl,
-                                        @Value("${jwt.secret:your-256-bit-secret-key-here-must-be-at-least-32-characters-long-for-security}") String jwtSecret) {
-        this.webClient = webClientBuilder.baseUrl(authServiceUrl).build();
-        
-        // Initialize secret key
-        byte[] keyBytes;
-        try {
-            keyBytes = Base64.getDecoder().decode(jwtSecret);
-        } catch (IllegalArgumentException e) {
-            byte[] secretBytes = jwtSecret.getBytes(StandardCharsets.UTF_8);
-            if (secretBytes.length < 32) {
-                byte[] padded = new byte[32];
-                System.arraycopy(secretBytes, 0, padded, 0, Math.min(secretBytes.length, 32));
-                for (int i = secretBytes.length; i < 32; i++) {
-                    padded[i] = secretBytes[i % secretBytes.length];
-                }
-                keyBytes = padded;
-            } else {
-                keyBytes = secretBytes;
-            }
-        }
-        this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+    public RoleBasedGatewayFilterFactory(JwtVerifier jwtVerifier, TokenEpochRegistry tokenEpochRegistry) {
+        this.jwtVerifier = jwtVerifier;
+        this.tokenEpochRegistry = tokenEpochRegistry;
     }
 
     @Override
@@ -65,11 +39,19 @@ public class RoleBasedGatewayFilterFactory extends AbstractGatewayFilterFactory<
             
             try {
                 // Parse and validate token
-                Claims claims = Jwts.parser()
-                        .verifyWith(secretKey)
-                        .build()
-                        .parseSignedClaims(jwtToken)
-                        .getPayload();
+                Claims claims = jwtVerifier.verify(jwtToken);
+
+                // Revocations are not known until the epoch topic has been replayed
+                if (!tokenEpochRegistry.isReady()) {
+                    exchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                    exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+                    return exchange.getResponse().setComplete();
+                }
+
+                if (!tokenEpochRegistry.isCurrent(claims)) {
+                    exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                    return exchange.getResponse().setComplete();
+                }
 
                 // Extract role and user ID from token
                 String userRole = claims.get("role", String.class);
@@ -0,0 +1,146 @@
+package com.crcs.apigateway.kafka;
+
+import com.crcs.apigateway.security.TokenEpochRegistry;
+import com.crcs.common.dto.auth.TokenEpochEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Replays the compacted token epoch topic into {@link TokenEpochRegistry} and then follows it.
+ * Every gateway instance needs every bump, so partitions are assigned manually and no consumer
+ * group is used (nothing is left behind on the broker after a restart, and no offsets are
+ * committed). The registry is marked ready once the replay reaches the end offsets read at
+ * startup.
+ */
+@Component
+public class TokenEpochKafkaConsumer {
+    private static final Logger logger = LoggerFactory.getLogger(TokenEpochKafkaConsumer.class);
+
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final String topic;
+    private final Duration pollTimeout;
+    private final long retryDelayMs;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile boolean running = true;
+    private volatile Consumer<String, String> consumer;
+    private Thread thread;
+
+    public TokenEpochKafkaConsumer(TokenEpochRegistry tokenEpochRegistry, ConsumerFactory<String, String> consumerFactory,
+                                   @Value("${kafka.token-epoch.topic:" + TokenEpochEvent.DEFAULT_TOPIC + "}") String topic,
+                                   @Value("${kafka.token-epoch.poll-timeout-ms:1000}") long pollTimeoutMs,
+                                   @Value("${kafka.token-epoch.retry-delay-ms:5000}") long retryDelayMs) {
+        this.tokenEpochRegistry = tokenEpochRegistry;
+        this.consumerFactory = consumerFactory;
+        this.topic = topic;
+        this.pollTimeout = Duration.ofMillis(pollTimeoutMs);
+        this.retryDelayMs = retryDelayMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        thread = new Thread(this::run, "token-epoch-consumer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        Consumer<String, String> current = consumer;
+        if (current != null) {
+            current.wakeup();
+        }
+        thread.join(pollTimeout.toMillis() * 2);
+    }
+
+    private void run() {
+        while (running) {
+            Properties overrides = new Properties();
+            overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+            try (Consumer<String, String> kafkaConsumer = consumerFactory.createConsumer(null, null, null, overrides)) {
+                consumer = kafkaConsumer;
+                follow(kafkaConsumer);
+            } catch (WakeupException e) {
+                // stop() was called
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                logger.warn("Token epoch consumer failed, restarting in {} ms", retryDelayMs, e);
+                sleep(retryDelayMs);
+            } finally {
+                consumer = null;
+            }
+        }
+    }
+
+    private void follow(Consumer<String, String> kafkaConsumer) {
+        List<PartitionInfo> partitionInfos = kafkaConsumer.partitionsFor(topic);
+        while (running && (partitionInfos == null || partitionInfos.isEmpty())) {
+            logger.warn("Token epoch topic {} not found yet; revocations unknown, retrying in {} ms", topic, retryDelayMs);
+            sleep(retryDelayMs);
+            partitionInfos = kafkaConsumer.partitionsFor(topic);
+        }
+        List<TopicPartition> partitions = partitionInfos.stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+        kafkaConsumer.assign(partitions);
+        kafkaConsumer.seekToBeginning(partitions);
+        Map<TopicPartition, Long> startupEnd = kafkaConsumer.endOffsets(partitions);
+
+        while (running) {
+            for (ConsumerRecord<String, String> record : kafkaConsumer.poll(pollTimeout)) {
+                apply(record.value());
+            }
+            if (!tokenEpochRegistry.isReady()
+                    && partitions.stream().allMatch(tp -> kafkaConsumer.position(tp) >= startupEnd.get(tp))) {
+                tokenEpochRegistry.markReady();
+                logger.info("Token epochs replayed: {} user(s) with revoked tokens", tokenEpochRegistry.size());
+            }
+        }
+    }
+
+    private void apply(String message) {
+        if (message == null) {
+            return;
+        }
+        try {
+            TokenEpochEvent event = objectMapper.readValue(message, TokenEpochEvent.class);
+            if (event.getUserId() == null) {
+                logger.warn("Ignoring token epoch event without userId");
+                return;
+            }
+            tokenEpochRegistry.update(event.getUserId(), event.getEpoch());
+            logger.debug("Token epoch for userId {} is now {}", event.getUserId(), event.getEpoch());
+        } catch (Exception e) {
+            logger.error("Error processing token epoch message", e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
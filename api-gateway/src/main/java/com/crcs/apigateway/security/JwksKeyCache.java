@@ -0,0 +1,111 @@
+package com.crcs.apigateway.security;
+
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.Jwks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local copy of auth-service's JWKS. Refreshed in the background, so token verification
+ * never waits on auth-service; if a refresh fails the last known keys stay in use.
+ * An unknown kid triggers an extra (rate-limited) refresh but is never fetched inline.
+ */
+@Component
+public class JwksKeyCache {
+    private static final Logger logger = LoggerFactory.getLogger(JwksKeyCache.class);
+
+    private final WebClient webClient;
+    private final Duration refreshInterval;
+    private final long minOnDemandRefreshMs;
+    private final AtomicLong lastOnDemandRefresh = new AtomicLong();
+
+    private volatile Map<String, Key> keys = Map.of();
+    private Disposable refreshTask;
+
+    public JwksKeyCache(WebClient.Builder webClientBuilder,
+                        @Value("${auth.service.url}") String authServiceUrl,
+                        @Value("${jwt.jwks.refresh-interval-ms:300000}") long refreshIntervalMs,
+                        @Value("${jwt.jwks.min-on-demand-refresh-ms:30000}") long minOnDemandRefreshMs) {
+        this.webClient = webClientBuilder.baseUrl(authServiceUrl).build();
+        this.refreshInterval = Duration.ofMillis(refreshIntervalMs);
+        this.minOnDemandRefreshMs = minOnDemandRefreshMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        refreshTask = Flux.interval(Duration.ZERO, refreshInterval)
+                .concatMap(tick -> fetch())
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refreshTask != null) {
+            refreshTask.dispose();
+        }
+    }
+
+    /**
+     * Verification key for a kid, or null if it is not (yet) known.
+     */
+    public Key get(String kid) {
+        Key key = keys.get(kid);
+        if (key == null) {
+            requestRefresh();
+        }
+        return key;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    private void requestRefresh() {
+        long now = System.currentTimeMillis();
+        long last = lastOnDemandRefresh.get();
+        if (now - last >= minOnDemandRefreshMs && lastOnDemandRefresh.compareAndSet(last, now)) {
+            fetch().subscribe();
+        }
+    }
+
+    private Mono<Void> fetch() {
+        return webClient.get()
+                .uri("/auth/.well-known/jwks.json")
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(Duration.ofSeconds(5))
+                .doOnNext(this::apply)
+                .then()
+                .onErrorResume(e -> {
+                    logger.warn("JWKS refresh failed, keeping {} cached key(s): {}", keys.size(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private void apply(String json) {
+        Map<String, Key> parsed = new HashMap<>();
+        for (Jwk<?> jwk : Jwks.setParser().build().parse(json).getKeys()) {
+            if (jwk.getId() != null) {
+                parsed.put(jwk.getId(), jwk.toKey());
+            }
+        }
+        if (!parsed.keySet().equals(keys.keySet())) {
+            logger.info("JWKS updated: {} key(s)", parsed.size());
+        }
+        keys = Map.copyOf(parsed);
+    }
+}
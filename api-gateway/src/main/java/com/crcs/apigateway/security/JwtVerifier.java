@@ -0,0 +1,49 @@
+package com.crcs.apigateway.security;
+
+import com.crcs.common.security.HmacSecrets;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+
+/**
+ * Verifies access tokens for the gateway filters. EdDSA tokens are checked against the cached
+ * JWKS by kid; tokens without a kid are legacy HS256 tokens, accepted only while
+ * {@code jwt.legacy-hmac.enabled} is true.
+ */
+@Component
+public class JwtVerifier {
+
+    private final JwtParser parser;
+
+    public JwtVerifier(JwksKeyCache jwksKeyCache,
+                       @Value("${jwt.secret:your-256-bit-secret-key-here-must-be-at-least-32-characters-long-for-security}") String jwtSecret,
+                       @Value("${jwt.legacy-hmac.enabled:false}") boolean legacyHmacEnabled) {
+        SecretKey legacyKey = legacyHmacEnabled ? Keys.hmacShaKeyFor(HmacSecrets.keyBytes(jwtSecret)) : null;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return header.getKeyId() != null ? jwksKeyCache.get(header.getKeyId()) : legacyKey;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Parse and verify a compact JWS, returning its claims.
+     *
+     * @throws JwtException if the token is malformed, expired, or its key is unknown
+     */
+    public Claims verify(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+}
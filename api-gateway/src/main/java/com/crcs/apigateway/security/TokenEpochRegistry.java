@@ -0,0 +1,61 @@
+package com.crcs.apigateway.security;
+
+import com.crcs.common.dto.auth.TokenEpochEvent;
+import io.jsonwebtoken.Claims;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory map of the latest token epoch per user, fed from auth-service broadcasts.
+ * Only users who have ever revoked their tokens have an entry, so the map stays small.
+ * The map is rebuilt by replaying the compacted epoch topic on startup; until the replay has
+ * reached the end offsets seen at startup it is incomplete, {@link #isReady()} is false and
+ * the gateway reports itself not ready and answers authenticated requests with 503.
+ */
+@Component
+public class TokenEpochRegistry {
+
+    private final Map<String, Integer> epochs = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public void update(String userId, int epoch) {
+        epochs.merge(userId, epoch, Math::max);
+    }
+
+    /**
+     * True if a token issued under {@code tokenEpoch} is still valid for the user.
+     */
+    public boolean isCurrent(String userId, int tokenEpoch) {
+        if (userId == null) {
+            return true;
+        }
+        Integer latest = epochs.get(userId);
+        return latest == null || tokenEpoch >= latest;
+    }
+
+    /**
+     * Checks the userId and epoch claims of an already signature-verified token. Tokens issued
+     * before epochs were introduced carry no claim and count as epoch 0.
+     */
+    public boolean isCurrent(Claims claims) {
+        Object userId = claims.get("userId");
+        Object epoch = claims.get(TokenEpochEvent.CLAIM);
+        return isCurrent(userId != null ? userId.toString() : null,
+                epoch instanceof Number number ? number.intValue() : 0);
+    }
+
+    /** Called once the startup replay has caught up. */
+    public void markReady() {
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return epochs.size();
+    }
+}
@@ -0,0 +1,25 @@
+package com.crcs.apigateway.security;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Down until the token epochs have been replayed, so a load balancer polling the readiness
+ * probe does not route traffic to a gateway that would not recognise revoked tokens.
+ */
+@Component
+public class TokenEpochsHealthIndicator implements HealthIndicator {
+
+    private final TokenEpochRegistry tokenEpochRegistry;
+
+    public TokenEpochsHealthIndicator(TokenEpochRegistry tokenEpochRegistry) {
+        this.tokenEpochRegistry = tokenEpochRegistry;
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = tokenEpochRegistry.isReady() ? Health.up() : Health.outOfService();
+        return builder.withDetail("revokedUsers", tokenEpochRegistry.size()).build();
+    }
+}
@@ -3,17 +3,21 @@ package com.crcs.authservice;
 import com.crcs.common.config.DotenvLoader;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
 
 @SpringBootApplication
 @ComponentScan(basePackages = {"com.crcs.authservice", "com.crcs.kafka"})
+@EnableScheduling
 public class AuthServiceApplication {
 
+  /** Built from the auto-configured builder so outgoing calls are traced. */
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplate();
+  public RestTemplate restTemplate(RestTemplateBuilder builder) {
+    return builder.build();
   }
 
   public static void main(String[] args) {
@@ -0,0 +1,32 @@
+package com.crcs.authservice.config;
+
+import com.crcs.common.dto.auth.TokenEpochEvent;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * Topics owned by auth-service, created (or, with {@code spring.kafka.admin.modify-topic-configs},
+ * brought in line) on startup by the auto-configured KafkaAdmin.
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    /**
+     * Token epochs keyed by userId. Compacted rather than deleted after a retention period, so
+     * a gateway that starts, or restarts after any length of downtime, reads the latest epoch of
+     * every user from the beginning of the topic.
+     */
+    @Bean
+    public NewTopic tokenEpochTopic(@Value("${kafka.token-epoch.topic:" + TokenEpochEvent.DEFAULT_TOPIC + "}") String topic,
+                                    @Value("${kafka.token-epoch.partitions:3}") int partitions,
+                                    @Value("${kafka.token-epoch.replicas:1}") int replicas) {
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
+                .replicas(replicas)
+                .compact()
+                .build();
+    }
+}
@@ -1,14 +1,19 @@
 package com.crcs.authservice.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -25,8 +30,18 @@ public class SecurityConfig {
     return http.build();
   }
 
+  /**
+   * Delegating encoder: new hashes are written as {bcrypt} at the configured work factor, while
+   * legacy un-prefixed hashes still verify. {@link PasswordEncoder#upgradeEncoding} reports hashes
+   * with a missing prefix or lower cost so they can be re-hashed on the next successful login.
+   */
   @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int bcryptStrength) {
+    String idForEncode = "bcrypt";
+    Map<String, PasswordEncoder> encoders = new HashMap<>();
+    encoders.put(idForEncode, new BCryptPasswordEncoder(bcryptStrength));
+    DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+    encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(bcryptStrength));
+    return encoder;
   }
 }
@@ -2,14 +2,18 @@ package com.crcs.authservice.controller;
 
 import com.crcs.authservice.dto.*;
 import com.crcs.authservice.service.AuthService;
+import com.crcs.authservice.service.SigningKeyService;
 import com.crcs.authservice.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.util.Optional;
 
 @RestController
@@ -19,10 +23,12 @@ import java.util.Optional;
 public class AuthController {
   private final AuthService authService;
   private final JwtUtil jwtUtil;
+  private final SigningKeyService signingKeyService;
 
-  public AuthController(AuthService authService, JwtUtil jwtUtil) {
+  public AuthController(AuthService authService, JwtUtil jwtUtil, SigningKeyService signingKeyService) {
     this.authService = authService;
     this.jwtUtil = jwtUtil;
+    this.signingKeyService = signingKeyService;
   }
 
   @Operation(summary = "User login", description = "Authenticate user and receive JWT tokens")
@@ -90,8 +96,8 @@ public class AuthController {
         ApiResponseDTO response = new ApiResponseDTO("Logged out successfully");
         return ResponseEntity.ok(response);
       } else {
-        ApiResponseDTO errorResponse = new ApiResponseDTO("Logout failed");
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        ApiResponseDTO errorResponse = new ApiResponseDTO("Logout could not be completed, please retry");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
       }
     } catch (Exception e) {
       ApiResponseDTO errorResponse = new ApiResponseDTO("Invalid token");
@@ -109,4 +115,12 @@ public class AuthController {
         ? ResponseEntity.ok().build()
         : ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
   }
+
+  @Operation(summary = "JSON Web Key Set", description = "Public keys for verifying access tokens offline")
+  @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<String> jwks() {
+    return ResponseEntity.ok()
+        .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+        .body(signingKeyService.jwksJson());
+  }
 }
@@ -0,0 +1,23 @@
+package com.crcs.authservice.exception;
+
+import com.crcs.authservice.dto.ApiResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+    private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(PasswordHashingOverloadedException.class)
+    public ResponseEntity<ApiResponseDTO> handlePasswordHashingOverloaded(PasswordHashingOverloadedException e) {
+        log.warn("Rejecting request, password hashing saturated: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ApiResponseDTO("Server is busy, please retry shortly"));
+    }
+}
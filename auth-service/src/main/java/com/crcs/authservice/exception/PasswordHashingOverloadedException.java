@@ -0,0 +1,15 @@
+package com.crcs.authservice.exception;
+
+/**
+ * Thrown when the dedicated password-hashing executor cannot accept more work. Mapped to
+ * 503 so clients back off instead of piling up on request threads.
+ */
+public class PasswordHashingOverloadedException extends RuntimeException {
+    public PasswordHashingOverloadedException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingOverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
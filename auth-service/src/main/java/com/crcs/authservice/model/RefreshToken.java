@@ -3,8 +3,15 @@ package com.crcs.authservice.model;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
+/**
+ * Persisted refresh token. Only the SHA-256 digest of the JWT is stored, so lookups use a
+ * fixed-width 64-char key instead of the full token string.
+ */
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_user_id", columnList = "user_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
 public class RefreshToken {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -13,8 +20,8 @@ public class RefreshToken {
     @Column(name = "user_id", nullable = false, length = 36)
     private String userId;
 
-    @Column(nullable = false, unique = true, length = 500)
-    private String token;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64, columnDefinition = "CHAR(64)")
+    private String tokenHash;
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
@@ -38,12 +45,12 @@ public class RefreshToken {
         this.userId = userId;
     }
 
-    public String getToken() {
-        return token;
+    public String getTokenHash() {
+        return tokenHash;
     }
 
-    public void setToken(String token) {
-        this.token = token;
+    public void setTokenHash(String tokenHash) {
+        this.tokenHash = tokenHash;
     }
 
     public LocalDateTime getExpiresAt() {
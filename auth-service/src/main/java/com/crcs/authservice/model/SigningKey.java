@@ -0,0 +1,47 @@
+package com.crcs.authservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Asymmetric JWT signing key. A key signs tokens from {@code activatesAt} until a newer key
+ * activates, and its public half stays in the JWKS until {@code expiresAt} so tokens it signed
+ * can still be verified.
+ */
+@Entity
+@Table(name = "signing_keys")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SigningKey {
+  @Id
+  @Column(length = 64, nullable = false)
+  private String kid;
+
+  @Column(nullable = false, length = 20)
+  private String algorithm;
+
+  /** Base64 X.509 SubjectPublicKeyInfo. */
+  @Column(name = "public_key", nullable = false, length = 500)
+  private String publicKey;
+
+  /** PKCS#8, encrypted by {@link com.crcs.authservice.util.SigningKeyCipher}. */
+  @Column(name = "private_key", nullable = false, length = 500)
+  private String privateKey;
+
+  @Column(name = "activates_at", nullable = false)
+  private LocalDateTime activatesAt;
+
+  @Column(name = "expires_at", nullable = false)
+  private LocalDateTime expiresAt;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
@@ -26,4 +26,8 @@ public class User {
 
   @Column(nullable = false)
   private String role;
+
+  /** Bumped to revoke every access token issued before it (see TokenEpochService). */
+  @Column(name = "token_epoch", nullable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+  private int tokenEpoch;
 }
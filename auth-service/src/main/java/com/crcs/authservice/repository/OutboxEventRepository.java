@@ -0,0 +1,19 @@
+package com.crcs.authservice.repository;
+
+import com.crcs.authservice.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /** Oldest unsent messages written before {@code before}, in write order. */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.createdAt < :before ORDER BY e.id")
+    List<OutboxEvent> findPendingBefore(@Param("before") LocalDateTime before, Pageable pageable);
+}
@@ -2,14 +2,37 @@ package com.crcs.authservice.repository;
 
 import com.crcs.authservice.model.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
     void deleteByUserId(String userId);
-    void deleteByExpiresAtBefore(LocalDateTime now);
+
+    /**
+     * @return 1 if the token was deleted, 0 if another request deleted (rotated) it first
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.id = :id")
+    int deleteIfPresent(@Param("id") Long id);
+
+    @Query("SELECT r.tokenHash FROM RefreshToken r WHERE r.userId = :userId")
+    List<String> findTokenHashesByUserId(@Param("userId") String userId);
+
+    /**
+     * Delete at most {@code batchSize} expired tokens. Runs in its own transaction so the
+     * sweeper never holds row locks across the whole table.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :now LIMIT :batchSize", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
 }
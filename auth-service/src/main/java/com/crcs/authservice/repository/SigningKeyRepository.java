@@ -0,0 +1,13 @@
+package com.crcs.authservice.repository;
+
+import com.crcs.authservice.model.SigningKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SigningKeyRepository extends JpaRepository<SigningKey, String> {
+    List<SigningKey> findByExpiresAtAfterOrderByActivatesAtDesc(LocalDateTime now);
+}
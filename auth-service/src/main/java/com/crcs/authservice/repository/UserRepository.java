@@ -2,11 +2,23 @@ package com.crcs.authservice.repository;
 
 import com.crcs.authservice.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
     Optional<User> findByEmail(String email);
+
+    @Query("SELECT u.tokenEpoch FROM User u WHERE u.id = :userId")
+    Optional<Integer> findTokenEpochById(@Param("userId") String userId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.tokenEpoch = u.tokenEpoch + 1 WHERE u.id = :userId")
+    int incrementTokenEpoch(@Param("userId") String userId);
 }
@@ -1,10 +1,9 @@
 package com.crcs.authservice.service;
 
-import com.crcs.authservice.client.UserServiceClient;
 import com.crcs.authservice.dto.*;
+import com.crcs.authservice.exception.PasswordHashingOverloadedException;
 import com.crcs.authservice.model.RefreshToken;
 import com.crcs.authservice.model.User;
-import com.crcs.authservice.repository.RefreshTokenRepository;
 import com.crcs.authservice.repository.UserRepository;
 import com.crcs.authservice.util.JwtUtil;
 import com.crcs.common.enums.UserRole;
@@ -14,11 +13,10 @@ import io.jsonwebtoken.JwtException;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -29,36 +27,41 @@ public class AuthService {
     private static final Logger log = LoggerFactory.getLogger(AuthService.class);
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtUtil jwtUtil;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenEpochService tokenEpochService;
     private final NotificationEventPublisher notificationEventPublisher;
-    private final UserServiceClient userServiceClient;
+    private final UserService userService;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-                      JwtUtil jwtUtil, RefreshTokenRepository refreshTokenRepository,
+    public AuthService(UserRepository userRepository, PasswordHashingService passwordHashingService,
+                      JwtUtil jwtUtil, RefreshTokenService refreshTokenService,
+                      TokenEpochService tokenEpochService,
                       NotificationEventPublisher notificationEventPublisher,
-                      UserServiceClient userServiceClient) {
+                      UserService userService) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.jwtUtil = jwtUtil;
-        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenEpochService = tokenEpochService;
         this.notificationEventPublisher = notificationEventPublisher;
-        this.userServiceClient = userServiceClient;
+        this.userService = userService;
     }
 
     public Optional<LoginResponseDTO> authenticate(LoginRequestDTO loginRequestDTO) {
         return userRepository.findByEmail(loginRequestDTO.getEmail())
-                .filter(u -> passwordEncoder.matches(loginRequestDTO.getPassword(), u.getPassword()))
+                .filter(u -> passwordHashingService.matches(loginRequestDTO.getPassword(), u.getPassword()))
                 .map(u -> {
+                    upgradePasswordHashIfNeeded(u, loginRequestDTO.getPassword());
+
                     Map<String, Object> claims = new HashMap<>();
                     claims.put("role", u.getRole());
                     claims.put("userId", u.getId());
                     
-                    String token = jwtUtil.generateToken(u.getEmail(), u.getRole(), claims);
-                    String refreshToken = jwtUtil.generateRefreshToken(u.getEmail(), u.getRole(), claims);
+                    String token = jwtUtil.generateToken(u.getEmail(), u.getRole(), u.getTokenEpoch(), claims);
+                    String refreshToken = jwtUtil.generateRefreshToken(u.getEmail(), u.getRole(), u.getTokenEpoch(), claims);
                     
-                    saveRefreshToken(u.getId(), refreshToken);
+                    refreshTokenService.save(u.getId(), refreshToken);
                     
                     UserInfoDTO userInfo = new UserInfoDTO(u.getId(), u.getEmail(), null, u.getRole());
                     
@@ -72,16 +75,40 @@ public class AuthService {
                 });
     }
 
+    /**
+     * Re-hash a legacy or lower-cost password after a successful login. Best effort: if the
+     * hashing executor is saturated the upgrade is simply retried on a later login.
+     */
+    private void upgradePasswordHashIfNeeded(User user, String rawPassword) {
+        if (!passwordHashingService.needsUpgrade(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordHashingService.encode(rawPassword));
+            userRepository.save(user);
+            log.info("Upgraded password hash for userId: {}", user.getId());
+        } catch (PasswordHashingOverloadedException e) {
+            log.debug("Skipping password hash upgrade for userId: {} - {}", user.getId(), e.getMessage());
+        }
+    }
+
     public boolean validateToken(String token) {
         try {
             jwtUtil.validateToken(token);
-            return true;
+            Claims claims = jwtUtil.extractClaims(token);
+            String userId = claims.get("userId", String.class);
+            return tokenEpochService.isCurrent(userId, jwtUtil.extractTokenEpoch(claims));
         } catch (JwtException e) {
             return false;
         }
     }
 
-    @Transactional
+    /**
+     * Register a user and issue tokens. The profile is created by user-service from the
+     * {@code USER_REGISTERED} event, which is written to the outbox with the user insert, so
+     * signup latency is one transaction plus token signing regardless of user-service (or
+     * Kafka) availability, and the event is delivered once they are back.
+     */
     public Optional<SignupResponseDTO> registerAndAuthenticate(SignupRequestDTO request) {
         Optional<User> existingUser = userRepository.findByEmail(request.getEmail());
         if (existingUser.isPresent()) {
@@ -95,27 +122,25 @@ public class AuthService {
         User newUser = new User();
         newUser.setId(UUID.randomUUID().toString());
         newUser.setEmail(request.getEmail());
-        newUser.setPassword(passwordEncoder.encode(request.getPassword()));
+        newUser.setPassword(passwordHashingService.encode(request.getPassword()));
         newUser.setRole(userRole.getValue());
         
-        newUser = userRepository.save(newUser);
-        
-        // Create user profile in user-service (user_profile table) with signup data
+        String name = StringUtils.isNotBlank(request.getName()) ? request.getName() : null;
         try {
-            String name = StringUtils.isNotBlank(request.getName()) ? request.getName() : null;
-            userServiceClient.createUserProfile(newUser.getId(), newUser.getEmail(), name, newUser.getRole());
-        } catch (Exception e) {
-            log.error("Failed to create user profile for userId: {}. Signup succeeded.", newUser.getId(), e);
+            newUser = userService.registerUser(newUser, name);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Email is already taken");
+            return Optional.empty();
         }
         
         Map<String, Object> claims = new HashMap<>();
         claims.put("role", newUser.getRole());
         claims.put("userId", newUser.getId());
         
-        String token = jwtUtil.generateToken(newUser.getEmail(), newUser.getRole(), claims);
-        String refreshToken = jwtUtil.generateRefreshToken(newUser.getEmail(), newUser.getRole(), claims);
+        String token = jwtUtil.generateToken(newUser.getEmail(), newUser.getRole(), newUser.getTokenEpoch(), claims);
+        String refreshToken = jwtUtil.generateRefreshToken(newUser.getEmail(), newUser.getRole(), newUser.getTokenEpoch(), claims);
         
-        saveRefreshToken(newUser.getId(), refreshToken);
+        refreshTokenService.save(newUser.getId(), refreshToken);
         
         // Send welcome email via generic notification publisher (does not fail signup on error)
         try {
@@ -136,6 +161,12 @@ public class AuthService {
         ));
     }
 
+    /**
+     * Rotate a refresh token: the old one is revoked and the new one stored in one transaction,
+     * so a failure leaves the old token valid rather than the user with neither. A token
+     * rotated concurrently by another request is rejected.
+     */
+    @Transactional
     public Optional<LoginResponseDTO> refreshToken(RefreshTokenRequestDTO request) {
         try {
             jwtUtil.validateToken(request.getRefreshToken());
@@ -146,23 +177,32 @@ public class AuthService {
             }
             
             String email = claims.getSubject();
-            String role = claims.get("role", String.class);
             String userId = claims.get("userId", String.class);
             
-            Optional<RefreshToken> refreshTokenOpt = refreshTokenRepository.findByToken(request.getRefreshToken());
-            if (refreshTokenOpt.isEmpty() || refreshTokenOpt.get().getExpiresAt().isBefore(LocalDateTime.now())) {
+            Optional<RefreshToken> refreshTokenOpt = refreshTokenService.findValid(request.getRefreshToken());
+            if (refreshTokenOpt.isEmpty()) {
+                return Optional.empty();
+            }
+
+            // Re-read role and token epoch so a refresh never resurrects a revoked or stale grant
+            Optional<User> userOpt = userRepository.findById(userId);
+            if (userOpt.isEmpty()) {
                 return Optional.empty();
             }
+            String role = userOpt.get().getRole();
+            int tokenEpoch = userOpt.get().getTokenEpoch();
             
             Map<String, Object> newClaims = new HashMap<>();
             newClaims.put("role", role);
             newClaims.put("userId", userId);
             
-            String newToken = jwtUtil.generateToken(email, role, newClaims);
-            String newRefreshToken = jwtUtil.generateRefreshToken(email, role, newClaims);
+            String newToken = jwtUtil.generateToken(email, role, tokenEpoch, newClaims);
+            String newRefreshToken = jwtUtil.generateRefreshToken(email, role, tokenEpoch, newClaims);
             
-            refreshTokenRepository.delete(refreshTokenOpt.get());
-            saveRefreshToken(userId, newRefreshToken);
+            if (!refreshTokenService.revoke(refreshTokenOpt.get())) {
+                return Optional.empty();
+            }
+            refreshTokenService.save(userId, newRefreshToken);
             
             UserInfoDTO userInfo = new UserInfoDTO(userId, email, null, role);
             
@@ -178,18 +218,12 @@ public class AuthService {
         }
     }
 
-    @Transactional
+    /**
+     * @return false if the access-token revocation could not be broadcast to the gateways; the
+     *         client should retry the logout
+     */
     public boolean logout(String userId) {
-        refreshTokenRepository.deleteByUserId(userId);
-        return true;
-    }
-
-    private void saveRefreshToken(String userId, String token) {
-        RefreshToken refreshToken = new RefreshToken();
-        refreshToken.setUserId(userId);
-        refreshToken.setToken(token);
-        refreshToken.setCreatedAt(LocalDateTime.now());
-        refreshToken.setExpiresAt(LocalDateTime.now().plusDays(30));
-        refreshTokenRepository.save(refreshToken);
+        refreshTokenService.revokeAllForUser(userId);
+        return tokenEpochService.bump(userId);
     }
 }
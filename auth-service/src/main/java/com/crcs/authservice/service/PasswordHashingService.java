@@ -0,0 +1,95 @@
+package com.crcs.authservice.service;
+
+import com.crcs.authservice.exception.PasswordHashingOverloadedException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hashing on a bounded, dedicated executor. BCrypt is CPU-bound, so the pool is
+ * sized to the CPU count and the queue is short: when it is full the request is rejected
+ * immediately with {@link PasswordHashingOverloadedException} (503) instead of letting login
+ * storms starve every request thread.
+ */
+@Service
+public class PasswordHashingService {
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingService.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${auth.password.hashing-threads:0}") int threads,
+                                  @Value("${auth.password.hashing-queue-capacity:64}") int queueCapacity,
+                                  @Value("${auth.password.hashing-timeout-ms:5000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "password-hash-" + threadCount.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        log.info("Password hashing executor started with {} thread(s), queue capacity {}", poolSize, queueCapacity);
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * True if the stored hash uses an older scheme or lower work factor than the current encoder.
+     * Cheap (parses the hash prefix only), so it runs on the caller's thread.
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingOverloadedException("Password hashing queue is full", e);
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingOverloadedException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new PasswordHashingOverloadedException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
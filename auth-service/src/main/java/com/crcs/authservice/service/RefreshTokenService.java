@@ -0,0 +1,125 @@
+package com.crcs.authservice.service;
+
+import com.crcs.authservice.model.RefreshToken;
+import com.crcs.authservice.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Refresh token store. Tokens are persisted and looked up by their SHA-256 digest, and
+ * hashes known to be revoked or unknown are kept in a bounded in-memory negative cache so
+ * replayed or forged refresh attempts don't hit the database.
+ */
+@Service
+public class RefreshTokenService {
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final long REFRESH_TOKEN_VALIDITY_DAYS = 30;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Map<String, Boolean> negativeCache;
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${auth.refresh-token.negative-cache-size:10000}") int negativeCacheSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.negativeCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > negativeCacheSize;
+            }
+        };
+    }
+
+    public void save(String userId, String token) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUserId(userId);
+        refreshToken.setTokenHash(hash(token));
+        refreshToken.setCreatedAt(LocalDateTime.now());
+        refreshToken.setExpiresAt(LocalDateTime.now().plusDays(REFRESH_TOKEN_VALIDITY_DAYS));
+        refreshTokenRepository.save(refreshToken);
+    }
+
+    /**
+     * Find a stored, unexpired refresh token. Misses are remembered in the negative cache.
+     */
+    public Optional<RefreshToken> findValid(String token) {
+        String tokenHash = hash(token);
+        if (isKnownInvalid(tokenHash)) {
+            return Optional.empty();
+        }
+        Optional<RefreshToken> stored = refreshTokenRepository.findByTokenHash(tokenHash)
+                .filter(t -> t.getExpiresAt().isAfter(LocalDateTime.now()));
+        if (stored.isEmpty()) {
+            markInvalid(tokenHash);
+        }
+        return stored;
+    }
+
+    /**
+     * Delete a token that is being rotated and, once the caller's transaction commits, remember
+     * its hash as revoked. The delete locks the row, so of two concurrent rotations of the same
+     * token only the first gets true.
+     *
+     * @return false if the token was already gone
+     */
+    public boolean revoke(RefreshToken refreshToken) {
+        if (refreshTokenRepository.deleteIfPresent(refreshToken.getId()) == 0) {
+            return false;
+        }
+        String tokenHash = refreshToken.getTokenHash();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markInvalid(tokenHash);
+                }
+            });
+        } else {
+            markInvalid(tokenHash);
+        }
+        return true;
+    }
+
+    @Transactional
+    public void revokeAllForUser(String userId) {
+        List<String> hashes = refreshTokenRepository.findTokenHashesByUserId(userId);
+        refreshTokenRepository.deleteByUserId(userId);
+        hashes.forEach(this::markInvalid);
+        log.debug("Revoked {} refresh token(s) for userId: {}", hashes.size(), userId);
+    }
+
+    static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private boolean isKnownInvalid(String tokenHash) {
+        synchronized (negativeCache) {
+            return negativeCache.containsKey(tokenHash);
+        }
+    }
+
+    private void markInvalid(String tokenHash) {
+        synchronized (negativeCache) {
+            negativeCache.put(tokenHash, Boolean.TRUE);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.crcs.authservice.service;
+
+import com.crcs.authservice.repository.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Periodically deletes expired refresh tokens in fixed-size batches so the table does not
+ * grow without bound and no single statement locks a large range of rows.
+ */
+@Component
+public class RefreshTokenSweeper {
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenSweeper.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int batchSize;
+
+    public RefreshTokenSweeper(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${auth.refresh-token.sweep-batch-size:1000}") int batchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-token.sweep-interval-ms:3600000}",
+               initialDelayString = "${auth.refresh-token.sweep-initial-delay-ms:60000}")
+    public void sweepExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpiredBatch(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        if (total > 0) {
+            log.info("Refresh token sweep removed {} expired token(s)", total);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.crcs.authservice.service;
+
+import com.crcs.authservice.model.SigningKey;
+import com.crcs.authservice.repository.SigningKeyRepository;
+import com.crcs.authservice.util.SigningKeyCipher;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Owns the rotating Ed25519 signing keys. Keys live in the shared database so every
+ * auth-service instance signs with the same key. A new key is published in the JWKS
+ * {@code activation-delay} before it starts signing, so verifiers that refresh their cache
+ * more often than that never see an unknown kid. Retired keys stay published until every
+ * token they signed (including 30-day refresh tokens) has expired. Private keys are stored
+ * encrypted by {@link SigningKeyCipher}; rows from before that are encrypted on startup.
+ */
+@Service
+public class SigningKeyService {
+    private static final Logger log = LoggerFactory.getLogger(SigningKeyService.class);
+    static final String ALGORITHM = "Ed25519";
+
+    private final SigningKeyRepository signingKeyRepository;
+    private final SigningKeyCipher signingKeyCipher;
+    private final long rotationHours;
+    private final long activationDelayMinutes;
+    private final long retentionDays;
+
+    private volatile Snapshot snapshot = new Snapshot(null, Map.of(), "{\"keys\":[]}");
+
+    public SigningKeyService(SigningKeyRepository signingKeyRepository,
+                             SigningKeyCipher signingKeyCipher,
+                             @Value("${auth.signing-key.rotation-hours:168}") long rotationHours,
+                             @Value("${auth.signing-key.activation-delay-minutes:30}") long activationDelayMinutes,
+                             @Value("${auth.signing-key.retention-days:31}") long retentionDays) {
+        this.signingKeyRepository = signingKeyRepository;
+        this.signingKeyCipher = signingKeyCipher;
+        this.rotationHours = rotationHours;
+        this.activationDelayMinutes = activationDelayMinutes;
+        this.retentionDays = retentionDays;
+    }
+
+    @PostConstruct
+    public void init() {
+        encryptPlaintextKeys();
+        reload();
+        if (snapshot.active() == null) {
+            // First start: nothing has been published yet, so the key can sign immediately
+            createKey(LocalDateTime.now());
+            reload();
+        }
+    }
+
+    /**
+     * Reload keys written by other instances and pre-publish the next key once the active one
+     * is due for rotation.
+     */
+    @Scheduled(fixedDelayString = "${auth.signing-key.check-interval-ms:300000}",
+               initialDelayString = "${auth.signing-key.check-interval-ms:300000}")
+    public void rotateIfDue() {
+        reload();
+        LocalDateTime now = LocalDateTime.now();
+        List<SigningKey> keys = signingKeyRepository.findByExpiresAtAfterOrderByActivatesAtDesc(now);
+        boolean pending = !keys.isEmpty() && keys.get(0).getActivatesAt().isAfter(now);
+        LocalDateTime newestActivation = keys.isEmpty() ? null : keys.get(0).getActivatesAt();
+        if (!pending && (newestActivation == null
+                || newestActivation.plusHours(rotationHours).minusMinutes(activationDelayMinutes).isBefore(now))) {
+            createKey(now.plusMinutes(activationDelayMinutes));
+            reload();
+        }
+    }
+
+    /**
+     * The key new tokens are signed with; kid and private key are read together so a rotation
+     * can never pair one key's kid with another key's signature.
+     */
+    public ActiveKey activeKey() {
+        return snapshot.active();
+    }
+
+    /**
+     * Public key for a kid that is still published, or null.
+     */
+    public PublicKey publicKey(String kid) {
+        return kid == null ? null : snapshot.publicKeys().get(kid);
+    }
+
+    /**
+     * JWKS document (RFC 7517) with every published public key, pre-rendered on reload.
+     */
+    public String jwksJson() {
+        return snapshot.jwksJson();
+    }
+
+    private void createKey(LocalDateTime activatesAt) {
+        KeyPair keyPair;
+        try {
+            keyPair = KeyPairGenerator.getInstance(ALGORITHM).generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot generate " + ALGORITHM + " key pair", e);
+        }
+        PublicJwk<PublicKey> jwk = Jwks.builder().key(keyPair.getPublic()).idFromThumbprint().build();
+        SigningKey signingKey = new SigningKey(
+                jwk.getId(),
+                ALGORITHM,
+                Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()),
+                signingKeyCipher.encrypt(jwk.getId(), keyPair.getPrivate().getEncoded()),
+                activatesAt,
+                activatesAt.plusHours(rotationHours).plusDays(retentionDays),
+                LocalDateTime.now());
+        signingKeyRepository.save(signingKey);
+        log.info("Created signing key {} activating at {}", signingKey.getKid(), activatesAt);
+    }
+
+    /**
+     * Encrypt private keys still stored as plain base64 PKCS#8, including expired ones.
+     */
+    private void encryptPlaintextKeys() {
+        for (SigningKey key : signingKeyRepository.findAll()) {
+            if (!signingKeyCipher.isEncrypted(key.getPrivateKey())) {
+                key.setPrivateKey(signingKeyCipher.encrypt(key.getKid(), Base64.getDecoder().decode(key.getPrivateKey())));
+                signingKeyRepository.save(key);
+                log.info("Encrypted stored private key of signing key {}", key.getKid());
+            }
+        }
+    }
+
+    private void reload() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SigningKey> keys = signingKeyRepository.findByExpiresAtAfterOrderByActivatesAtDesc(now);
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        ActiveKey active = null;
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(ALGORITHM);
+            for (SigningKey key : keys) {
+                publicKeys.put(key.getKid(), keyFactory.generatePublic(
+                        new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey()))));
+                if (active == null && !key.getActivatesAt().isAfter(now)) {
+                    active = new ActiveKey(key.getKid(), keyFactory.generatePrivate(
+                            new PKCS8EncodedKeySpec(signingKeyCipher.decrypt(key.getKid(), key.getPrivateKey()))));
+                }
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot load signing keys", e);
+        }
+        String jwks = publicKeys.values().stream()
+                .map(k -> Jwks.json(Jwks.builder().key(k).idFromThumbprint().publicKeyUse("sig").build()))
+                .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+        if (active != null && (snapshot.active() == null || !active.kid().equals(snapshot.active().kid()))) {
+            log.info("Signing with key {}", active.kid());
+        }
+        snapshot = new Snapshot(active, Map.copyOf(publicKeys), jwks);
+    }
+
+    public record ActiveKey(String kid, PrivateKey privateKey) {
+    }
+
+    private record Snapshot(ActiveKey active, Map<String, PublicKey> publicKeys, String jwksJson) {
+    }
+}
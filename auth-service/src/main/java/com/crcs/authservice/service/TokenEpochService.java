@@ -0,0 +1,93 @@
+package com.crcs.authservice.service;
+
+import com.crcs.authservice.repository.UserRepository;
+import com.crcs.common.dto.auth.TokenEpochEvent;
+import com.crcs.kafka.producer.KafkaEventProducer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-user token epoch. Every access token embeds the epoch it was issued under; bumping the
+ * epoch revokes all earlier tokens. Bumps are broadcast on a log-compacted Kafka topic keyed
+ * by userId (declared in {@link com.crcs.authservice.config.KafkaTopicConfig}) so gateways can
+ * enforce revocation from an in-memory map without calling back here. Gateways only learn of a
+ * revocation from that topic, so a bump counts only once the broker has acknowledged it.
+ */
+@Service
+public class TokenEpochService {
+    private static final Logger log = LoggerFactory.getLogger(TokenEpochService.class);
+
+    private final UserRepository userRepository;
+    private final KafkaEventProducer kafkaEventProducer;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final int sendAttempts;
+    private final long sendTimeoutMs;
+
+    public TokenEpochService(UserRepository userRepository, KafkaEventProducer kafkaEventProducer,
+                             ObjectMapper objectMapper,
+                             @Value("${kafka.token-epoch.topic:" + TokenEpochEvent.DEFAULT_TOPIC + "}") String topic,
+                             @Value("${auth.token-epoch.send-attempts:3}") int sendAttempts,
+                             @Value("${auth.token-epoch.send-timeout-ms:2000}") long sendTimeoutMs) {
+        this.userRepository = userRepository;
+        this.kafkaEventProducer = kafkaEventProducer;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.sendAttempts = sendAttempts;
+        this.sendTimeoutMs = sendTimeoutMs;
+    }
+
+    public int currentEpoch(String userId) {
+        return userRepository.findTokenEpochById(userId).orElse(0);
+    }
+
+    /**
+     * True if a token issued under {@code tokenEpoch} has not been revoked since.
+     */
+    public boolean isCurrent(String userId, int tokenEpoch) {
+        return userId == null || tokenEpoch >= currentEpoch(userId);
+    }
+
+    /**
+     * Revoke every access token issued to the user so far and broadcast the new epoch, waiting
+     * for the broker to acknowledge it (up to {@code send-attempts} tries). Must also be called
+     * whenever a user's role changes.
+     *
+     * @return false if the broadcast failed: the revocation is recorded here but gateways do not
+     *         know of it, so the caller must fail the operation and let the client retry (a
+     *         retry bumps again, and the newer epoch supersedes this one)
+     */
+    public boolean bump(String userId) {
+        if (userRepository.incrementTokenEpoch(userId) == 0) {
+            log.warn("Cannot bump token epoch, user not found: {}", userId);
+            return true;
+        }
+        int epoch = currentEpoch(userId);
+        String message;
+        try {
+            message = objectMapper.writeValueAsString(new TokenEpochEvent(userId, epoch, System.currentTimeMillis()));
+        } catch (Exception e) {
+            log.error("Failed to serialize token epoch for userId: {}", userId, e);
+            return false;
+        }
+        for (int attempt = 1; attempt <= sendAttempts; attempt++) {
+            try {
+                kafkaEventProducer.sendJsonMessageAcked(topic, userId, message).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+                log.info("Token epoch bumped for userId: {} to {}", userId, epoch);
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("Token epoch broadcast for userId: {} failed (attempt {}/{})", userId, attempt, sendAttempts, e);
+            }
+        }
+        log.error("Failed to broadcast token epoch for userId: {}. Gateways still accept its old tokens.", userId);
+        return false;
+    }
+}
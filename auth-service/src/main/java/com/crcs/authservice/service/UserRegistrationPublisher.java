@@ -0,0 +1,160 @@
+package com.crcs.authservice.service;
+
+import com.crcs.authservice.model.OutboxEvent;
+import com.crcs.authservice.repository.OutboxEventRepository;
+import com.crcs.common.dto.auth.UserRegisteredEvent;
+import com.crcs.kafka.producer.KafkaEventProducer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes {@link UserRegisteredEvent}s keyed by userId through the {@code auth_outbox} table.
+ * The event is written in the signup transaction, so it exists exactly when the user does, and
+ * sent right after commit without blocking signup. A row is deleted only once the broker has
+ * acknowledged it, by {@link #clearAcknowledged()} on the scheduler thread rather than in the
+ * producer callback, so a slow outbox table never holds up Kafka sends. Rows left behind
+ * (broker down, crash before the send) are re-sent by {@link #relayPending()}. Delivery is at least once, and user-service creates profiles
+ * idempotently.
+ */
+@Component
+public class UserRegistrationPublisher {
+    private static final Logger log = LoggerFactory.getLogger(UserRegistrationPublisher.class);
+
+    private final KafkaEventProducer kafkaEventProducer;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final long relayGraceMs;
+    private final long sendTimeoutMs;
+    private final int relayBatchSize;
+    /** Ids of rows the broker acknowledged, waiting to be deleted. */
+    private final Queue<Long> acknowledged = new ConcurrentLinkedQueue<>();
+
+    public UserRegistrationPublisher(KafkaEventProducer kafkaEventProducer, OutboxEventRepository outboxEventRepository,
+                                     ObjectMapper objectMapper,
+                                     @Value("${kafka.user-registered.topic:" + UserRegisteredEvent.DEFAULT_TOPIC + "}") String topic,
+                                     @Value("${auth.outbox.relay-grace-ms:10000}") long relayGraceMs,
+                                     @Value("${auth.outbox.send-timeout-ms:5000}") long sendTimeoutMs,
+                                     @Value("${auth.outbox.relay-batch-size:100}") int relayBatchSize) {
+        this.kafkaEventProducer = kafkaEventProducer;
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.relayGraceMs = relayGraceMs;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.relayBatchSize = relayBatchSize;
+    }
+
+    /**
+     * Write the event to the outbox in the caller's transaction (the user insert) and send it
+     * once that commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String userId, String email, String name, String role) {
+        UserRegisteredEvent event = new UserRegisteredEvent(userId, email, name, role, System.currentTimeMillis());
+        OutboxEvent row = new OutboxEvent();
+        row.setTopic(topic);
+        row.setMessageKey(userId);
+        try {
+            row.setPayload(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + UserRegisteredEvent.EVENT_TYPE, e);
+        }
+        row.setCreatedAt(LocalDateTime.now());
+        OutboxEvent saved = outboxEventRepository.save(row);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sendNow(saved);
+            }
+        });
+    }
+
+    /**
+     * Re-send outbox rows the immediate send did not clear, oldest first. Rows younger than
+     * relay-grace-ms are left to the immediate send. Stops at the first failure; the broker is
+     * then most likely down and the rest are tried on the next run.
+     */
+    @Scheduled(fixedDelayString = "${auth.outbox.relay-interval-ms:30000}",
+               initialDelayString = "${auth.outbox.relay-initial-delay-ms:30000}")
+    public void relayPending() {
+        clearAcknowledged();
+        List<OutboxEvent> pending = outboxEventRepository.findPendingBefore(
+                LocalDateTime.now().minusNanos(relayGraceMs * 1_000_000L), PageRequest.of(0, relayBatchSize));
+        int sent = 0;
+        for (OutboxEvent row : pending) {
+            try {
+                kafkaEventProducer.sendJsonMessageAcked(row.getTopic(), row.getMessageKey(), row.getPayload())
+                        .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Outbox relay could not send message {} to {}; {} left for the next run",
+                        row.getId(), row.getTopic(), pending.size() - sent, e);
+                return;
+            }
+            outboxEventRepository.deleteById(row.getId());
+            sent++;
+        }
+        if (sent > 0) {
+            log.info("Outbox relay sent {} pending message(s)", sent);
+        }
+    }
+
+    /**
+     * Delete the rows whose immediate send was acknowledged. A row that cannot be deleted is
+     * sent again by the relay, which user-service tolerates.
+     */
+    @Scheduled(fixedDelayString = "${auth.outbox.clear-interval-ms:1000}")
+    public void clearAcknowledged() {
+        List<Long> ids = new ArrayList<>();
+        for (Long id = acknowledged.poll(); id != null; id = acknowledged.poll()) {
+            ids.add(id);
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+        try {
+            outboxEventRepository.deleteAllByIdInBatch(ids);
+        } catch (RuntimeException e) {
+            log.warn("Failed to clear {} sent outbox message(s); the relay will send them again", ids.size(), e);
+        }
+    }
+
+    private void sendNow(OutboxEvent row) {
+        try {
+            kafkaEventProducer.sendJsonMessageAcked(row.getTopic(), row.getMessageKey(), row.getPayload())
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.warn("Failed to publish {} for userId: {}; the outbox relay will retry",
+                                    UserRegisteredEvent.EVENT_TYPE, row.getMessageKey(), e);
+                            return;
+                        }
+                        // Runs on the producer's I/O thread: no database work here
+                        acknowledged.add(row.getId());
+                        log.info("Published {} for userId: {}", UserRegisteredEvent.EVENT_TYPE, row.getMessageKey());
+                    });
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish {} for userId: {}; the outbox relay will retry",
+                    UserRegisteredEvent.EVENT_TYPE, row.getMessageKey(), e);
+        }
+    }
+}
@@ -4,8 +4,8 @@ import com.crcs.authservice.dto.SignupRequestDTO;
 import com.crcs.authservice.model.User;
 import com.crcs.authservice.repository.UserRepository;
 import com.crcs.common.enums.UserRole;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -13,11 +13,26 @@ import java.util.UUID;
 @Service
 public class UserService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final UserRegistrationPublisher userRegistrationPublisher;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordHashingService passwordHashingService,
+                       UserRegistrationPublisher userRegistrationPublisher) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.userRegistrationPublisher = userRegistrationPublisher;
+    }
+
+    /**
+     * Insert a new user and its {@code USER_REGISTERED} outbox event in one transaction, so
+     * there is never a user whose profile event was not recorded. Throws
+     * DataIntegrityViolationException if the email is taken.
+     */
+    @Transactional
+    public User registerUser(User user, String name) {
+        User saved = userRepository.saveAndFlush(user);
+        userRegistrationPublisher.publish(saved.getId(), saved.getEmail(), name, saved.getRole());
+        return saved;
     }
 
     public Optional<User> findByEmail(String email) {
@@ -31,7 +46,7 @@ public class UserService {
         
         user.setId(UUID.randomUUID().toString());
         user.setEmail(request.getEmail());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashingService.encode(request.getPassword()));
         user.setRole(userRole.getValue());
         return userRepository.save(user);
     }
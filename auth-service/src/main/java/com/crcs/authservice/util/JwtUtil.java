@@ -1,74 +1,84 @@
 package com.crcs.authservice.util;
 
+import com.crcs.authservice.service.SigningKeyService;
+import com.crcs.common.dto.auth.TokenEpochEvent;
+import com.crcs.common.security.HmacSecrets;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
-import java.nio.charset.StandardCharsets;
 import java.security.Key;
-import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Issues EdDSA tokens signed with the active key from {@link SigningKeyService} (kid in the
+ * header) and verifies them against the published key set. Tokens without a kid are legacy
+ * HS256 tokens and are accepted only while {@code jwt.legacy-hmac.enabled} is true.
+ */
 @Component
 public class JwtUtil {
 
-  private final Key secretKey;
   private static final long ACCESS_TOKEN_EXPIRATION = 1000L * 60 * 60 * 10; // 10 hours
   private static final long REFRESH_TOKEN_EXPIRATION = 1000L * 60 * 60 * 24 * 30; // 30 days
 
-  public JwtUtil(@Value("${jwt.secret}") String secret) {
-    byte[] keyBytes;
-    try {
-      keyBytes = Base64.getDecoder().decode(secret);
-    } catch (IllegalArgumentException e) {
-      byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
-      if (secretBytes.length < 32) {
-        byte[] padded = new byte[32];
-        System.arraycopy(secretBytes, 0, padded, 0, Math.min(secretBytes.length, 32));
-        for (int i = secretBytes.length; i < 32; i++) {
-          padded[i] = secretBytes[i % secretBytes.length];
-        }
-        keyBytes = padded;
-      } else {
-        keyBytes = secretBytes;
-      }
-    }
-    this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+  private final SigningKeyService signingKeyService;
+  private final JwtParser parser;
+
+  public JwtUtil(SigningKeyService signingKeyService,
+                 @Value("${jwt.secret}") String secret,
+                 @Value("${jwt.legacy-hmac.enabled:false}") boolean legacyHmacEnabled) {
+    this.signingKeyService = signingKeyService;
+    SecretKey legacyKey = legacyHmacEnabled ? Keys.hmacShaKeyFor(HmacSecrets.keyBytes(secret)) : null;
+    this.parser = Jwts.parser()
+        .keyLocator(new LocatorAdapter<Key>() {
+          @Override
+          protected Key locate(JwsHeader header) {
+            return header.getKeyId() != null ? signingKeyService.publicKey(header.getKeyId()) : legacyKey;
+          }
+        })
+        .build();
   }
 
-  public String generateToken(String email, String role, Map<String, Object> extraClaims) {
+  public String generateToken(String email, String role, int tokenEpoch, Map<String, Object> extraClaims) {
+    SigningKeyService.ActiveKey activeKey = signingKeyService.activeKey();
     return Jwts.builder()
+        .header().keyId(activeKey.kid()).and()
         .subject(email)
         .claim("role", role)
+        .claim(TokenEpochEvent.CLAIM, tokenEpoch)
         .addClaims(extraClaims)
         .issuedAt(new Date())
         .expiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION))
-        .signWith(secretKey)
+        .signWith(activeKey.privateKey())
         .compact();
   }
 
-  public String generateRefreshToken(String email, String role, Map<String, Object> extraClaims) {
+  public String generateRefreshToken(String email, String role, int tokenEpoch, Map<String, Object> extraClaims) {
+    SigningKeyService.ActiveKey activeKey = signingKeyService.activeKey();
     return Jwts.builder()
+        .header().keyId(activeKey.kid()).and()
         .subject(email)
         .claim("role", role)
         .claim("type", "refresh")
+        .claim(TokenEpochEvent.CLAIM, tokenEpoch)
         .addClaims(extraClaims)
         .issuedAt(new Date())
         .expiration(new Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION))
-        .signWith(secretKey)
+        .signWith(activeKey.privateKey())
         .compact();
   }
 
   public void validateToken(String token) {
     try {
-      Jwts.parser().verifyWith((SecretKey) secretKey)
-          .build()
-          .parseSignedClaims(token);
+      parser.parseSignedClaims(token);
     } catch (SignatureException e) {
       throw new JwtException("Invalid JWT signature");
     } catch (JwtException e) {
@@ -77,9 +87,7 @@ public class JwtUtil {
   }
 
   public Claims extractClaims(String token) {
-    return Jwts.parser().verifyWith((SecretKey) secretKey)
-        .build()
-        .parseSignedClaims(token)
+    return parser.parseSignedClaims(token)
         .getPayload();
   }
 
@@ -98,6 +106,14 @@ public class JwtUtil {
     return claims.get("role", String.class);
   }
 
+  /**
+   * Token epoch claim; tokens issued before epochs were introduced count as epoch 0.
+   */
+  public int extractTokenEpoch(Claims claims) {
+    Object epoch = claims.get(TokenEpochEvent.CLAIM);
+    return epoch instanceof Number number ? number.intValue() : 0;
+  }
+
   public long getAccessTokenExpiration() {
     return ACCESS_TOKEN_EXPIRATION;
   }
@@ -0,0 +1,82 @@
+package com.crcs.authservice.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Encrypts signing private keys before they are written to {@code signing_keys}, with
+ * AES-256-GCM under a key that only comes from the environment
+ * ({@code auth.signing-key.encryption-key}). The kid is bound as associated data, so a
+ * ciphertext copied onto another row does not decrypt. Stored form: {@code v1:} followed by
+ * base64(IV || ciphertext || tag).
+ */
+@Component
+public class SigningKeyCipher {
+
+  private static final String PREFIX = "v1:";
+  private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+  private static final int IV_BYTES = 12;
+  private static final int TAG_BITS = 128;
+
+  private final SecretKey key;
+  private final SecureRandom random = new SecureRandom();
+
+  public SigningKeyCipher(@Value("${auth.signing-key.encryption-key:}") String encodedKey) {
+    byte[] keyBytes;
+    try {
+      keyBytes = Base64.getDecoder().decode(encodedKey.trim());
+    } catch (IllegalArgumentException e) {
+      keyBytes = new byte[0];
+    }
+    if (keyBytes.length != 32) {
+      throw new IllegalStateException("auth.signing-key.encryption-key (SIGNING_KEY_ENCRYPTION_KEY) must be a "
+          + "base64-encoded 256-bit key, e.g. the output of: openssl rand -base64 32");
+    }
+    this.key = new SecretKeySpec(keyBytes, "AES");
+  }
+
+  public String encrypt(String kid, byte[] plaintext) {
+    byte[] iv = new byte[IV_BYTES];
+    random.nextBytes(iv);
+    try {
+      Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+      cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, iv));
+      cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+      byte[] sealed = cipher.doFinal(plaintext);
+      byte[] out = new byte[iv.length + sealed.length];
+      System.arraycopy(iv, 0, out, 0, iv.length);
+      System.arraycopy(sealed, 0, out, iv.length, sealed.length);
+      return PREFIX + Base64.getEncoder().encodeToString(out);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Cannot encrypt signing key " + kid, e);
+    }
+  }
+
+  public byte[] decrypt(String kid, String stored) {
+    if (!isEncrypted(stored)) {
+      throw new IllegalStateException("Signing key " + kid + " is not encrypted");
+    }
+    byte[] in = Base64.getDecoder().decode(stored.substring(PREFIX.length()));
+    try {
+      Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+      cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, in, 0, IV_BYTES));
+      cipher.updateAAD(kid.getBytes(StandardCharsets.UTF_8));
+      return cipher.doFinal(in, IV_BYTES, in.length - IV_BYTES);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException("Cannot decrypt signing key " + kid + " (wrong encryption key?)", e);
+    }
+  }
+
+  /** False for rows written before private keys were encrypted (plain base64 PKCS#8). */
+  public boolean isEncrypted(String stored) {
+    return stored.startsWith(PREFIX);
+  }
+}
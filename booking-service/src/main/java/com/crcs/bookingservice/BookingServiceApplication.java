@@ -1,26 +1,54 @@
 package com.crcs.bookingservice;
 
+import com.crcs.bookingservice.config.DeadlineAwareRequestFactory;
+import com.crcs.bookingservice.service.RequestDeadline;
 import com.crcs.common.config.DotenvLoader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Hooks;
+
+import java.time.Duration;
 
 @SpringBootApplication
+@EnableScheduling
 @ComponentScan(basePackages = {"com.crcs.bookingservice", "com.crcs.kafka"})
 public class BookingServiceApplication {
 
     public static void main(String[] args) {
         // Load .env file if it exists
         DotenvLoader.loadDotenv();
+        // Carry the trace context (and other thread-locals) across Reactor thread hops
+        Hooks.enableAutomaticContextPropagation();
         
         SpringApplication.run(BookingServiceApplication.class, args);
     }
 
+    /**
+     * Built from the auto-configured builder so outgoing calls are traced (client spans and
+     * the traceparent header). Reads never outlast the longest request budget, and within a
+     * request they are cut to what is left of its deadline.
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate(new HttpComponentsClientHttpRequestFactory());
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     @Value("${booking.http.connect-timeout-ms:1000}") long connectTimeoutMs,
+                                     @Value("${booking.request.max-timeout-ms:30000}") long maxTimeoutMs) {
+        return builder
+                .requestFactory(() -> new DeadlineAwareRequestFactory(
+                        Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(maxTimeoutMs)))
+                // Pass the remaining request budget on, so downstream services can stop work nobody waits for
+                .additionalInterceptors((request, body, execution) -> {
+                    long remaining = RequestDeadline.remainingMillis();
+                    if (remaining >= 0) {
+                        request.getHeaders().set(RequestDeadline.HEADER, Long.toString(remaining));
+                    }
+                    return execution.execute(request, body);
+                })
+                .build();
     }
 }
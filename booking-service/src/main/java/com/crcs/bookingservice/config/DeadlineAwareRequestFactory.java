@@ -0,0 +1,43 @@
+package com.crcs.bookingservice.config;
+
+import com.crcs.bookingservice.service.RequestDeadline;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP client factory for calls to the other services. Connect and read timeouts are fixed
+ * upper bounds; within a request, the wait for a pooled connection and for the response are
+ * further cut to the time left before the {@link RequestDeadline}. Blocking socket reads do not
+ * react to interrupts, so this is what actually stops a call abandoned by
+ * {@link com.crcs.bookingservice.service.ParallelEnrichment} from running on.
+ */
+public class DeadlineAwareRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    public DeadlineAwareRequestFactory(Duration connectTimeout, Duration readTimeout) {
+        setConnectTimeout(connectTimeout);
+        setConnectionRequestTimeout(readTimeout);
+        setReadTimeout(readTimeout);
+    }
+
+    @Override
+    protected RequestConfig mergeRequestConfig(RequestConfig clientConfig) {
+        RequestConfig config = super.mergeRequestConfig(clientConfig);
+        long remaining = RequestDeadline.remainingMillis();
+        if (remaining < 0) {
+            return config;
+        }
+        // 0 would mean "no timeout" to the client
+        long budget = Math.max(1, remaining);
+        RequestConfig.Builder builder = RequestConfig.copy(config);
+        if (config.getResponseTimeout() == null || config.getResponseTimeout().toMilliseconds() > budget) {
+            builder.setResponseTimeout(budget, TimeUnit.MILLISECONDS);
+        }
+        if (config.getConnectionRequestTimeout() == null || config.getConnectionRequestTimeout().toMilliseconds() > budget) {
+            builder.setConnectionRequestTimeout(budget, TimeUnit.MILLISECONDS);
+        }
+        return builder.build();
+    }
+}
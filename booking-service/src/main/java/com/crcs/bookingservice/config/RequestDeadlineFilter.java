@@ -0,0 +1,59 @@
+package com.crcs.bookingservice.config;
+
+import com.crcs.bookingservice.service.RequestDeadline;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Starts the {@link RequestDeadline} for each request: the caller's remaining budget from the
+ * {@value RequestDeadline#HEADER} header, kept between {@code booking.request.min-timeout-ms}
+ * and {@code booking.request.max-timeout-ms}, or {@code booking.request.timeout-ms} when the
+ * header is missing or malformed. The floor stops a caller from starving every lookup (a
+ * budget of 0 would time them all out).
+ */
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+    private final long defaultTimeoutMs;
+    private final long minTimeoutMs;
+    private final long maxTimeoutMs;
+
+    public RequestDeadlineFilter(@Value("${booking.request.timeout-ms:3000}") long defaultTimeoutMs,
+                                 @Value("${booking.request.min-timeout-ms:500}") long minTimeoutMs,
+                                 @Value("${booking.request.max-timeout-ms:30000}") long maxTimeoutMs) {
+        this.defaultTimeoutMs = defaultTimeoutMs;
+        this.minTimeoutMs = minTimeoutMs;
+        this.maxTimeoutMs = maxTimeoutMs;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestDeadline.start(budget(request.getHeader(RequestDeadline.HEADER)));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    private long budget(String header) {
+        if (header != null) {
+            try {
+                long requested = Long.parseLong(header.trim());
+                if (requested >= 0) {
+                    return Math.max(minTimeoutMs, Math.min(requested, maxTimeoutMs));
+                }
+            } catch (NumberFormatException ignored) {
+                // fall back to the default budget
+            }
+        }
+        return defaultTimeoutMs;
+    }
+}
@@ -0,0 +1,66 @@
+package com.crcs.bookingservice.controller;
+
+import com.crcs.bookingservice.dto.request.BulkBookingDecisionRequestDTO;
+import com.crcs.bookingservice.dto.response.ApiResponseDTO;
+import com.crcs.bookingservice.service.BookingService;
+import com.crcs.common.enums.UserRole;
+import com.crcs.common.pagination.KeysetPages;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/bookings")
+@Tag(name = "Booking Approval", description = "Pending-approval queue and bulk decisions for facility managers")
+public class BookingApprovalController {
+    private final BookingService bookingService;
+
+    public BookingApprovalController(BookingService bookingService) {
+        this.bookingService = bookingService;
+    }
+
+    @Operation(summary = "Pending-approval queue", description = "PENDING bookings, oldest request first, filtered by resource, resource owner and start-time window. Pass nextCursor back as cursor for the next page (FACILITY_MANAGER / ADMIN)")
+    @GetMapping("/pending")
+    public Mono<ResponseEntity<?>> getPendingQueue(
+            @RequestHeader(value = "X-User-Role", required = false) String userRole,
+            @RequestParam(value = "resourceId", required = false) String resourceId,
+            @RequestParam(value = "ownerId", required = false) String ownerId,
+            @RequestParam(value = "from", required = false) LocalDateTime from,
+            @RequestParam(value = "to", required = false) LocalDateTime to,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "cursor", required = false) String cursor) {
+        if (!canApprove(userRole)) {
+            return Mono.just(forbidden());
+        }
+        KeysetPages.validateSize(size);
+        return bookingService.getPendingQueue(resourceId, ownerId, from, to, size, cursor)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Bulk approve or reject", description = "Approve (CONFIRMED) or reject (CANCELLED) up to 200 pending bookings in one transaction. Approvals that would overlap a confirmed booking are skipped. Each user gets one grouped notification (FACILITY_MANAGER / ADMIN)")
+    @PostMapping("/approve")
+    public ResponseEntity<?> decideBookings(
+            @RequestHeader(value = "X-User-Role", required = false) String userRole,
+            @Valid @RequestBody BulkBookingDecisionRequestDTO request) {
+        if (!canApprove(userRole)) {
+            return forbidden();
+        }
+        return ResponseEntity.ok(bookingService.decideBookings(request.getBookingIds(), request.getDecision(),
+                request.getReason()));
+    }
+
+    private static boolean canApprove(String userRole) {
+        return UserRole.isValid(userRole) && UserRole.fromString(userRole).canApproveBookings();
+    }
+
+    private static ResponseEntity<?> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ApiResponseDTO("Insufficient permissions"));
+    }
+}
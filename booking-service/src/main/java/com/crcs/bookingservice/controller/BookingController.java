@@ -1,19 +1,23 @@
 package com.crcs.bookingservice.controller;
 
 import com.crcs.bookingservice.dto.request.AvailabilityCheckRequestDTO;
+import com.crcs.bookingservice.dto.request.AvailabilityMatrixRequestDTO;
 import com.crcs.bookingservice.dto.request.CreateBookingRequestDTO;
 import com.crcs.bookingservice.dto.request.UpdateBookingStatusRequestDTO;
 import com.crcs.bookingservice.dto.response.ApiResponseDTO;
 import com.crcs.bookingservice.dto.response.AvailabilityCheckResponseDTO;
+import com.crcs.bookingservice.dto.response.AvailabilityMatrixResponseDTO;
 import com.crcs.bookingservice.dto.response.BookingResponseDTO;
-import com.crcs.bookingservice.dto.response.PageResponseDTO;
+import com.crcs.bookingservice.service.AvailabilityMatrixService;
 import com.crcs.bookingservice.service.BookingService;
+import com.crcs.common.pagination.PageResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.Optional;
 
@@ -22,9 +26,11 @@ import java.util.Optional;
 @Tag(name = "Booking Management", description = "APIs for managing resource bookings")
 public class BookingController {
     private final BookingService bookingService;
+    private final AvailabilityMatrixService availabilityMatrixService;
 
-    public BookingController(BookingService bookingService) {
+    public BookingController(BookingService bookingService, AvailabilityMatrixService availabilityMatrixService) {
         this.bookingService = bookingService;
+        this.availabilityMatrixService = availabilityMatrixService;
     }
 
     @Operation(summary = "Check resource availability", description = "Check if a resource is available for a given time slot")
@@ -46,6 +52,13 @@ public class BookingController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Availability matrix", description = "Occupancy of many resources over a time grid, one bitset per resource, from a single query per batch of resources")
+    @PostMapping("/availability/matrix")
+    public ResponseEntity<AvailabilityMatrixResponseDTO> getAvailabilityMatrix(
+            @Valid @RequestBody AvailabilityMatrixRequestDTO request) {
+        return ResponseEntity.ok(availabilityMatrixService.getMatrix(request));
+    }
+
     @Operation(summary = "Create a new booking", description = "Create a new booking for a resource")
     @PostMapping
     public ResponseEntity<?> createBooking(
@@ -73,22 +86,28 @@ public class BookingController {
 
     @Operation(summary = "Get user bookings", description = "Retrieve all bookings for a specific user")
     @GetMapping("/user/{userId}")
-    public ResponseEntity<PageResponseDTO<BookingResponseDTO>> getBookingsByUser(
+    public Mono<ResponseEntity<PageResponseDTO<BookingResponseDTO>>> getBookingsByUser(
             @PathVariable("userId") String userId,
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "10") int size) {
-        PageResponseDTO<BookingResponseDTO> bookings = bookingService.getBookingsByUser(userId, page, size);
-        return ResponseEntity.ok(bookings);
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "includeTotal", required = false) Boolean includeTotal,
+            @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived) {
+        return bookingService.getBookingsByUser(userId, page, size, cursor, includeTotal, includeArchived)
+                .map(ResponseEntity::ok);
     }
 
     @Operation(summary = "Get resource bookings", description = "Retrieve all bookings for a specific resource")
     @GetMapping("/resource/{resourceId}")
-    public ResponseEntity<PageResponseDTO<BookingResponseDTO>> getBookingsByResource(
+    public Mono<ResponseEntity<PageResponseDTO<BookingResponseDTO>>> getBookingsByResource(
             @PathVariable("resourceId") String resourceId,
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "10") int size) {
-        PageResponseDTO<BookingResponseDTO> bookings = bookingService.getBookingsByResource(resourceId, page, size);
-        return ResponseEntity.ok(bookings);
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "includeTotal", required = false) Boolean includeTotal,
+            @RequestParam(value = "includeArchived", defaultValue = "false") boolean includeArchived) {
+        return bookingService.getBookingsByResource(resourceId, page, size, cursor, includeTotal, includeArchived)
+                .map(ResponseEntity::ok);
     }
 
     @Operation(summary = "Approve a pending booking", description = "FACILITY_MANAGER approves a pending booking; sets status to CONFIRMED and resource to BOOKED")
@@ -105,7 +124,7 @@ public class BookingController {
     @Operation(summary = "Update booking status", description = "Update the status of a booking")
     @PatchMapping("/{id}/status")
     public ResponseEntity<?> updateBookingStatus(@PathVariable("id") String id,
-                                                @RequestBody UpdateBookingStatusRequestDTO request) {
+                                                @Valid @RequestBody UpdateBookingStatusRequestDTO request) {
         Optional<BookingResponseDTO> updated = bookingService.updateBookingStatus(id, request);
         if (updated.isPresent()) {
             return ResponseEntity.ok(updated.get());
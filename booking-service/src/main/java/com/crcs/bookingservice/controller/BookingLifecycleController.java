@@ -0,0 +1,31 @@
+package com.crcs.bookingservice.controller;
+
+import com.crcs.bookingservice.dto.response.ApiResponseDTO;
+import com.crcs.bookingservice.service.BookingLifecycleWorker;
+import com.crcs.common.enums.UserRole;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/bookings/lifecycle")
+@Tag(name = "Booking Lifecycle", description = "Status of the background worker that completes and expires bookings")
+public class BookingLifecycleController {
+    private final BookingLifecycleWorker bookingLifecycleWorker;
+
+    public BookingLifecycleController(BookingLifecycleWorker bookingLifecycleWorker) {
+        this.bookingLifecycleWorker = bookingLifecycleWorker;
+    }
+
+    @Operation(summary = "Lifecycle worker stats", description = "Batch counts, transitions and lag from this instance's most recent sweep")
+    @GetMapping("/stats")
+    public ResponseEntity<?> getStats(@RequestHeader(value = "X-User-Role", required = false) String userRole) {
+        if (!UserRole.isValid(userRole) || !UserRole.fromString(userRole).canManageResources()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ApiResponseDTO("Insufficient permissions"));
+        }
+        return ResponseEntity.ok(bookingLifecycleWorker.getLastSweepStats());
+    }
+}
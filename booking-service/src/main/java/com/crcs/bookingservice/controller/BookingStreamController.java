@@ -0,0 +1,54 @@
+package com.crcs.bookingservice.controller;
+
+import com.crcs.bookingservice.stream.BookingStreamHub;
+import com.crcs.common.enums.UserRole;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/bookings/stream")
+@Tag(name = "Booking Stream", description = "Server-sent booking status changes, replacing polling")
+public class BookingStreamController {
+    static final int MAX_RESOURCE_IDS = 200;
+
+    private final BookingStreamHub bookingStreamHub;
+
+    public BookingStreamController(BookingStreamHub bookingStreamHub) {
+        this.bookingStreamHub = bookingStreamHub;
+    }
+
+    @Operation(summary = "Stream booking changes", description = "Server-sent events with every booking status change for the given resources. Omit resourceIds to follow all resources (FACILITY_MANAGER / ADMIN only)")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestHeader(value = "X-User-Role", required = false) String userRole,
+            @RequestParam(value = "resourceIds", required = false) String resourceIds) {
+        Set<String> ids = null;
+        if (StringUtils.isNotBlank(resourceIds)) {
+            ids = Arrays.stream(resourceIds.split(","))
+                    .map(String::trim)
+                    .filter(StringUtils::isNotEmpty)
+                    .collect(Collectors.toSet());
+            if (ids.size() > MAX_RESOURCE_IDS) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_RESOURCE_IDS + " resourceIds per stream");
+            }
+        } else if (!UserRole.isValid(userRole) || !UserRole.fromString(userRole).canManageResources()) {
+            // Error statuses only: the client negotiated text/event-stream, not JSON
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Insufficient permissions");
+        }
+        try {
+            return bookingStreamHub.subscribe(ids);
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        }
+    }
+}
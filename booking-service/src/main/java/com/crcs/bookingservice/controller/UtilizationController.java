@@ -0,0 +1,63 @@
+package com.crcs.bookingservice.controller;
+
+import com.crcs.bookingservice.dto.response.ApiResponseDTO;
+import com.crcs.bookingservice.dto.response.UtilizationReportDTO;
+import com.crcs.bookingservice.service.UtilizationService;
+import com.crcs.common.enums.UserRole;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+@RestController
+@RequestMapping("/bookings/analytics")
+@Tag(name = "Booking Analytics", description = "Resource utilization reports for facility managers")
+public class UtilizationController {
+    private final UtilizationService utilizationService;
+
+    public UtilizationController(UtilizationService utilizationService) {
+        this.utilizationService = utilizationService;
+    }
+
+    @Operation(summary = "Resource utilization", description = "Booked and pending time per resource, bucketed by hour, day or week, from pre-aggregated counters. Defaults to the last 7 days")
+    @GetMapping("/utilization")
+    public ResponseEntity<?> getUtilization(
+            @RequestHeader(value = "X-User-Role", required = false) String userRole,
+            @RequestParam(value = "resourceId", required = false) String resourceId,
+            @RequestParam(value = "from", required = false) LocalDateTime from,
+            @RequestParam(value = "to", required = false) LocalDateTime to,
+            @RequestParam(value = "granularity", defaultValue = "day") String granularity) {
+        if (!canViewAnalytics(userRole)) {
+            return forbidden();
+        }
+        LocalDateTime end = to != null ? to : LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        LocalDateTime start = from != null ? from : end.minusDays(7);
+        UtilizationReportDTO report = utilizationService.getUtilization(resourceId, start, end,
+                UtilizationService.Granularity.fromString(granularity));
+        return ResponseEntity.ok(report);
+    }
+
+    @Operation(summary = "Rebuild utilization counters", description = "Recompute all utilization counters from the bookings table (ADMIN only)")
+    @PostMapping("/utilization/rebuild")
+    public ResponseEntity<ApiResponseDTO> rebuildUtilization(
+            @RequestHeader(value = "X-User-Role", required = false) String userRole) {
+        if (!UserRole.isValid(userRole) || !UserRole.fromString(userRole).isAdmin()) {
+            return forbidden();
+        }
+        long processed = utilizationService.rebuild();
+        return ResponseEntity.ok(new ApiResponseDTO("Utilization counters rebuilt from " + processed + " booking(s)"));
+    }
+
+    private static boolean canViewAnalytics(String userRole) {
+        return UserRole.isValid(userRole) && UserRole.fromString(userRole).canManageResources();
+    }
+
+    private static ResponseEntity<ApiResponseDTO> forbidden() {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(new ApiResponseDTO("Insufficient permissions"));
+    }
+}
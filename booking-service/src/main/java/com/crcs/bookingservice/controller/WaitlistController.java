@@ -0,0 +1,49 @@
+package com.crcs.bookingservice.controller;
+
+import com.crcs.bookingservice.dto.request.CreateBookingRequestDTO;
+import com.crcs.bookingservice.dto.response.ApiResponseDTO;
+import com.crcs.bookingservice.dto.response.WaitlistEntryResponseDTO;
+import com.crcs.bookingservice.service.WaitlistService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/bookings/waitlist")
+@Tag(name = "Booking Waitlist", description = "Queue for taken slots; freed slots go to the earliest waiter")
+public class WaitlistController {
+    private final WaitlistService waitlistService;
+
+    public WaitlistController(WaitlistService waitlistService) {
+        this.waitlistService = waitlistService;
+    }
+
+    @Operation(summary = "Join the waitlist", description = "Queue for a taken slot; when it is cancelled a booking request is created for the earliest waiter")
+    @PostMapping
+    public ResponseEntity<WaitlistEntryResponseDTO> joinWaitlist(
+            @RequestHeader("X-User-Id") String userId,
+            @Valid @RequestBody CreateBookingRequestDTO request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(waitlistService.join(userId, request));
+    }
+
+    @Operation(summary = "Get user waitlist entries", description = "Latest waitlist entries of a user, newest first")
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<WaitlistEntryResponseDTO>> getWaitlistByUser(@PathVariable("userId") String userId) {
+        return ResponseEntity.ok(waitlistService.getWaitlistByUser(userId));
+    }
+
+    @Operation(summary = "Leave the waitlist", description = "Remove one of your own waiting entries")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> leaveWaitlist(@PathVariable("id") String id,
+                                           @RequestHeader("X-User-Id") String userId) {
+        if (waitlistService.leave(id, userId)) {
+            return ResponseEntity.ok(new ApiResponseDTO("Left the waitlist"));
+        }
+        return ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.crcs.bookingservice.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class AvailabilityMatrixRequestDTO {
+    @NotEmpty(message = "At least one resource ID is required")
+    @Size(max = 500, message = "At most 500 resources per request")
+    private List<String> resourceIds;
+
+    @NotNull(message = "From time is required")
+    private LocalDateTime from;
+
+    @NotNull(message = "To time is required")
+    private LocalDateTime to;
+
+    @Min(value = 5, message = "Slot length must be at least 5 minutes")
+    @Max(value = 1440, message = "Slot length must be at most 1440 minutes")
+    private int slotMinutes = 60;
+}
@@ -0,0 +1,27 @@
+package com.crcs.bookingservice.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkBookingDecisionRequestDTO {
+    public enum Decision {
+        APPROVE,
+        REJECT
+    }
+
+    @NotEmpty(message = "At least one booking ID is required")
+    @Size(max = 200, message = "At most 200 bookings per request")
+    private List<String> bookingIds;
+
+    @NotNull(message = "Decision is required (APPROVE or REJECT)")
+    private Decision decision;
+
+    /** Optional note for the requesters, e.g. why their bookings were rejected. */
+    @Size(max = 500, message = "Reason must be at most 500 characters")
+    private String reason;
+}
@@ -1,10 +1,12 @@
 package com.crcs.bookingservice.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -15,4 +17,20 @@ public class AvailabilityCheckResponseDTO {
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private String message;
+    /** Bookings overlapping the requested slot; only present when it is already booked. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<TimeWindow> conflicts;
+
+    public AvailabilityCheckResponseDTO(boolean available, String resourceId, LocalDateTime startTime,
+                                        LocalDateTime endTime, String message) {
+        this(available, resourceId, startTime, endTime, message, null);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TimeWindow {
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+    }
 }
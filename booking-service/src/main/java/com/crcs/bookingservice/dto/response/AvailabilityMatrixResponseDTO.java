@@ -0,0 +1,34 @@
+package com.crcs.bookingservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Occupancy of each resource over {@code slots} consecutive slots of {@code slotMinutes}
+ * starting at {@code from}. Each row's {@code occupied} is a base64 bitset of
+ * ceil(slots / 8) bytes: slot i is booked when bit (i % 8) of byte (i / 8) is set, least
+ * significant bit first, the layout of {@code java.util.BitSet.valueOf(byte[])}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityMatrixResponseDTO {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int slotMinutes;
+    private int slots;
+    private List<Row> resources;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Row {
+        private String resourceId;
+        private String occupied;
+        private int occupiedSlots;
+    }
+}
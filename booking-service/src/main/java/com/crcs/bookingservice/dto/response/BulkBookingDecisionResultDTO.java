@@ -0,0 +1,29 @@
+package com.crcs.bookingservice.dto.response;
+
+import com.crcs.bookingservice.dto.request.BulkBookingDecisionRequestDTO;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk approve/reject: the bookings that were moved out of PENDING, and the ones
+ * left alone with the reason why.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkBookingDecisionResultDTO {
+    private BulkBookingDecisionRequestDTO.Decision decision;
+    private List<String> processed;
+    private List<Skipped> skipped;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Skipped {
+        private String bookingId;
+        private String reason;
+    }
+}
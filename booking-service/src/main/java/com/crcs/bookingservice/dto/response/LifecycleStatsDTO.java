@@ -0,0 +1,31 @@
+package com.crcs.bookingservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Figures from the lifecycle worker's most recent sweep and archive run on this instance. Lag
+ * is how long the oldest overdue booking had been waiting when the sweep started; it should
+ * stay near the sweep interval.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LifecycleStatsDTO {
+    private LocalDateTime lastSweepAt;
+    private long lastSweepMillis;
+    private int batchSize;
+    private int batches;
+    private int completed;
+    private int expired;
+    private long completionLagSeconds;
+    private long expiryLagSeconds;
+    private long totalCompleted;
+    private long totalExpired;
+    private LocalDateTime lastArchiveAt;
+    private int archived;
+    private long totalArchived;
+}
@@ -0,0 +1,44 @@
+package com.crcs.bookingservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Booked time per resource over [from, to), broken down into buckets of the requested
+ * granularity. Occupancy is booked time divided by the length of the bucket (or of the whole
+ * range for the resource totals). Only buckets with bookings are listed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilizationReportDTO {
+    private String granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<ResourceUtilization> resources;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResourceUtilization {
+        private String resourceId;
+        private long bookedMinutes;
+        private long pendingMinutes;
+        private double occupancy;
+        private List<Bucket> buckets;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private LocalDateTime start;
+        private long bookedMinutes;
+        private long pendingMinutes;
+        private double occupancy;
+    }
+}
@@ -0,0 +1,30 @@
+package com.crcs.bookingservice.dto.response;
+
+import com.crcs.bookingservice.model.WaitlistEntry;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class WaitlistEntryResponseDTO {
+    private String id;
+    private String userId;
+    private String resourceId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private WaitlistEntry.WaitlistStatus status;
+    private String purpose;
+    /** Booking created on promotion. */
+    private String bookingId;
+    /** 1-based place in the queue for this slot; only while WAITING. */
+    private Long position;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,11 @@
+package com.crcs.bookingservice.exception;
+
+/**
+ * Thrown when a booking cannot move to the requested status: the transition is not allowed
+ * from its current status, or another request changed the status first. Mapped to 409.
+ */
+public class BookingStatusConflictException extends RuntimeException {
+    public BookingStatusConflictException(String message) {
+        super(message);
+    }
+}
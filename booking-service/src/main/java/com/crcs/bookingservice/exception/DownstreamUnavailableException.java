@@ -0,0 +1,24 @@
+package com.crcs.bookingservice.exception;
+
+/**
+ * Thrown when a downstream service the request cannot do without (e.g. resource-service for a
+ * new booking) fails or does not answer before the request deadline. Mapped to 504 for a
+ * timeout and 503 otherwise, so clients retry instead of treating it as a validation error.
+ */
+public class DownstreamUnavailableException extends RuntimeException {
+    private final boolean timeout;
+
+    public DownstreamUnavailableException(String message, boolean timeout) {
+        super(message);
+        this.timeout = timeout;
+    }
+
+    public DownstreamUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+        this.timeout = false;
+    }
+
+    public boolean isTimeout() {
+        return timeout;
+    }
+}
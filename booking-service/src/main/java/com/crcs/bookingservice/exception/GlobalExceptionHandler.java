@@ -0,0 +1,46 @@
+package com.crcs.bookingservice.exception;
+
+import com.crcs.bookingservice.dto.response.ApiResponseDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponseDTO> handleIllegalArgumentException(IllegalArgumentException e) {
+        logger.warn("Invalid argument: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ApiResponseDTO(e.getMessage()));
+    }
+
+    @ExceptionHandler(BookingStatusConflictException.class)
+    public ResponseEntity<ApiResponseDTO> handleBookingStatusConflict(BookingStatusConflictException e) {
+        logger.warn("Booking status conflict: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponseDTO(e.getMessage()));
+    }
+
+    @ExceptionHandler(DownstreamUnavailableException.class)
+    public ResponseEntity<ApiResponseDTO> handleDownstreamUnavailable(DownstreamUnavailableException e) {
+        logger.warn("Downstream unavailable: {}", e.getMessage());
+        return ResponseEntity.status(e.isTimeout() ? HttpStatus.GATEWAY_TIMEOUT : HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ApiResponseDTO(e.getMessage() + ", please retry shortly"));
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ApiResponseDTO> handleMethodArgumentTypeMismatch(MethodArgumentTypeMismatchException e) {
+        logger.warn("Invalid parameter type: {}", e.getMessage());
+        String message = "Invalid value for parameter '" + (e.getName() != null ? e.getName() : "unknown") + "'";
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ApiResponseDTO(message));
+    }
+}
@@ -0,0 +1,232 @@
+package com.crcs.bookingservice.idempotency;
+
+import com.crcs.bookingservice.dto.response.ApiResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * {@value #HEADER} support for the booking write endpoints ({@code POST /bookings} and
+ * {@code /bookings/{id}/approve|status|cancel}). The first request with a key runs and, if its
+ * outcome is final (a 2xx, or a 4xx that a retry would get again), its response is stored;
+ * retries with the same key and request get that response back with {@value #REPLAYED_HEADER}:
+ * true, without running the write or its notifications again. Any other outcome (5xx, 408,
+ * 409, 425, 429) releases the key so a retry runs the request. Keys are scoped to the
+ * caller's {@code X-User-Id}. Bodies are buffered to fingerprint them, up to
+ * {@code booking.idempotency.max-body-bytes}.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyFilter.class);
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Pattern WRITE_PATH = Pattern.compile("^/bookings(/[^/]+/(approve|status|cancel))?/?$");
+    /** Client errors that depend on timing or load rather than on the request; a retry may succeed. */
+    private static final Set<Integer> TRANSIENT_CLIENT_ERRORS = Set.of(408, 409, 425, 429);
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+    private final int maxBodyBytes;
+
+    public IdempotencyFilter(IdempotencyStore store, ObjectMapper objectMapper,
+                             @Value("${booking.idempotency.max-body-bytes:65536}") int maxBodyBytes) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return request.getHeader(HEADER) == null
+                || !("POST".equals(method) || "PATCH".equals(method))
+                || !WRITE_PATH.matcher(request.getRequestURI().substring(request.getContextPath().length())).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, HEADER + " must be 1-" + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large");
+            return;
+        }
+        byte[] body = request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large");
+            return;
+        }
+        String id = sha256(StringUtils.defaultString(request.getHeader("X-User-Id")) + "\n" + key);
+        String fingerprint = sha256(request.getMethod() + " " + request.getRequestURI() + "?"
+                + StringUtils.defaultString(request.getQueryString()) + "\n" + new String(body, StandardCharsets.UTF_8));
+
+        IdempotencyStore.StoredResponse stored = store.find(id);
+        if (stored != null) {
+            respondToRetry(stored, fingerprint, response);
+            return;
+        }
+        if (!store.tryStart(id, fingerprint)) {
+            writeError(response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is already in progress");
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapped = new ContentCachingResponseWrapper(response);
+        boolean kept = false;
+        try {
+            chain.doFilter(new CachedBodyRequest(request, body), wrapped);
+            kept = isFinal(wrapped.getStatus());
+            if (kept) {
+                complete(id, fingerprint, wrapped);
+            }
+        } finally {
+            // A failed request did not happen as far as the client is concerned; let a retry run it
+            if (!kept) {
+                release(id);
+            }
+            wrapped.copyBodyToResponse();
+        }
+    }
+
+    /**
+     * Whether a retry of the same request would get the same answer: successes, and client
+     * errors about the request itself. Server errors (including 503/504 for a downstream
+     * service that was unavailable or slow) and timing-dependent client errors are not.
+     */
+    private static boolean isFinal(int status) {
+        return status >= 200 && status < 300
+                || status >= 400 && status < 500 && !TRANSIENT_CLIENT_ERRORS.contains(status);
+    }
+
+    private void respondToRetry(IdempotencyStore.StoredResponse stored, String fingerprint, HttpServletResponse response)
+            throws IOException {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, HEADER + " was already used for a different request");
+        } else if (!stored.completed()) {
+            writeError(response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is already in progress");
+        } else {
+            response.setStatus(stored.status());
+            if (stored.contentType() != null) {
+                response.setContentType(stored.contentType());
+            }
+            response.setHeader(REPLAYED_HEADER, "true");
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private void complete(String id, String fingerprint, ContentCachingResponseWrapper wrapped) {
+        try {
+            store.complete(id, fingerprint, wrapped.getStatus(), wrapped.getContentType(), wrapped.getContentAsByteArray());
+        } catch (RuntimeException e) {
+            // The write went through; keep the claim so retries are refused rather than re-run
+            logger.warn("Failed to store response for idempotency key {}", id, e);
+        }
+    }
+
+    private void release(String id) {
+        try {
+            store.release(id);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to release idempotency key {}; it frees up after the lock timeout", id, e);
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ApiResponseDTO(message));
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** Replays the body that was read to fingerprint the request. */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
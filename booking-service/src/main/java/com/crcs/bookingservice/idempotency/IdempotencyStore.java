@@ -0,0 +1,136 @@
+package com.crcs.bookingservice.idempotency;
+
+import com.crcs.bookingservice.model.IdempotencyRecord;
+import com.crcs.bookingservice.repository.IdempotencyRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Stored outcomes of idempotent booking writes. Completed responses are kept in a bounded LRU
+ * cache in front of {@code booking_idempotency_keys}, so a retry hitting the same instance is
+ * answered from memory; the table makes replays work across instances and restarts, and its
+ * primary key is the lock that keeps two concurrent retries from both running.
+ */
+@Component
+public class IdempotencyStore {
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyStore.class);
+
+    private final IdempotencyRecordRepository repository;
+    private final long ttlMs;
+    private final long lockTimeoutMs;
+    private final Map<String, Cached> cache;
+
+    /**
+     * What a key was last used for. {@code completed} is false while the first request is
+     * still running; status, content type and body are set once it completed.
+     */
+    public record StoredResponse(String fingerprint, boolean completed, int status, String contentType, byte[] body) {
+    }
+
+    private record Cached(StoredResponse response, long expiresAt) {
+    }
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            @Value("${booking.idempotency.cache.max-entries:10000}") int maxEntries,
+                            @Value("${booking.idempotency.ttl-ms:86400000}") long ttlMs,
+                            @Value("${booking.idempotency.lock-timeout-ms:60000}") long lockTimeoutMs) {
+        this.repository = repository;
+        this.ttlMs = ttlMs;
+        this.lockTimeoutMs = lockTimeoutMs;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Cached> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * The stored outcome for the key, or null if it is unused (or expired, or was claimed by
+     * a request that has not finished within lock-timeout-ms and is presumed dead).
+     */
+    public StoredResponse find(String id) {
+        synchronized (cache) {
+            Cached cached = cache.get(id);
+            if (cached != null) {
+                if (cached.expiresAt() >= System.currentTimeMillis()) {
+                    return cached.response();
+                }
+                cache.remove(id);
+            }
+        }
+
+        Optional<IdempotencyRecord> found = repository.findById(id);
+        if (found.isEmpty()) {
+            return null;
+        }
+        IdempotencyRecord record = found.get();
+        LocalDateTime now = LocalDateTime.now();
+        if (record.getExpiresAt().isBefore(now)) {
+            repository.deleteById(id);
+            return null;
+        }
+        if (record.getStatus() == IdempotencyRecord.Status.IN_PROGRESS) {
+            LocalDateTime staleBefore = now.minus(lockTimeoutMs, ChronoUnit.MILLIS);
+            if (record.getCreatedAt().isBefore(staleBefore) && repository.releaseStale(id, staleBefore) == 1) {
+                logger.warn("Released stale idempotency claim {}", id);
+                return null;
+            }
+            return new StoredResponse(record.getFingerprint(), false, 0, null, null);
+        }
+        StoredResponse response = new StoredResponse(record.getFingerprint(), true, record.getResponseStatus(),
+                record.getContentType(), record.getResponseBody() != null
+                        ? record.getResponseBody().getBytes(StandardCharsets.UTF_8) : new byte[0]);
+        cache(id, response, record.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        return response;
+    }
+
+    /**
+     * Claim an unused key before running the request.
+     *
+     * @return false if another request claimed it first
+     */
+    public boolean tryStart(String id, String fingerprint) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return repository.insertInProgress(id, fingerprint, now, now.plus(ttlMs, ChronoUnit.MILLIS)) == 1;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    public void complete(String id, String fingerprint, int status, String contentType, byte[] body) {
+        repository.complete(id, status, contentType, new String(body, StandardCharsets.UTF_8));
+        cache(id, new StoredResponse(fingerprint, true, status, contentType, body), System.currentTimeMillis() + ttlMs);
+    }
+
+    public void release(String id) {
+        repository.release(id);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.idempotency.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        int deleted = repository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.info("Purged {} expired idempotency key(s)", deleted);
+        }
+    }
+
+    private void cache(String id, StoredResponse response, long expiresAt) {
+        synchronized (cache) {
+            cache.put(id, new Cached(response, expiresAt));
+        }
+    }
+}
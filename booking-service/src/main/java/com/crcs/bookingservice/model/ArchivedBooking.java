@@ -0,0 +1,73 @@
+package com.crcs.bookingservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A finished booking moved out of the hot {@code bookings} table by the lifecycle worker.
+ * Columns mirror {@link Booking} (keep them in step; the archive copy is a plain
+ * INSERT ... SELECT) plus the time the row was archived.
+ */
+@Entity
+@Table(name = "bookings_archive", indexes = {
+        @Index(name = "idx_bookings_archive_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_bookings_archive_resource_created", columnList = "resource_id, created_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedBooking {
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "user_id", nullable = false, length = 36)
+    private String userId;
+
+    @Column(name = "resource_id", nullable = false, length = 36)
+    private String resourceId;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(nullable = false, length = 50)
+    @Enumerated(EnumType.STRING)
+    private Booking.BookingStatus status;
+
+    @Column(name = "purpose", length = 500)
+    private String purpose;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * Detached {@link Booking} view, so archived rows can go through the same mapping and
+     * pagination code as hot ones.
+     */
+    public Booking toBooking() {
+        return Booking.builder()
+                .id(id)
+                .userId(userId)
+                .resourceId(resourceId)
+                .startTime(startTime)
+                .endTime(endTime)
+                .status(status)
+                .purpose(purpose)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -9,7 +9,14 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_bookings_resource_created", columnList = "resource_id, created_at, id"),
+        @Index(name = "idx_bookings_resource_time", columnList = "resource_id, start_time, end_time, status"),
+        @Index(name = "idx_bookings_status_end", columnList = "status, end_time, id"),
+        @Index(name = "idx_bookings_status_start", columnList = "status, start_time, id"),
+        @Index(name = "idx_bookings_status_created", columnList = "status, created_at, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -59,6 +66,20 @@ public class Booking {
         PENDING,
         CONFIRMED,
         CANCELLED,
-        COMPLETED
+        COMPLETED,
+        /** PENDING request whose start time passed without approval; set by the lifecycle worker. */
+        EXPIRED;
+
+        /**
+         * PENDING may be approved, cancelled or expire; CONFIRMED may be cancelled or complete.
+         * The other statuses are final.
+         */
+        public boolean canTransitionTo(BookingStatus to) {
+            return switch (this) {
+                case PENDING -> to == CONFIRMED || to == CANCELLED || to == EXPIRED;
+                case CONFIRMED -> to == CANCELLED || to == COMPLETED;
+                default -> false;
+            };
+        }
     }
 }
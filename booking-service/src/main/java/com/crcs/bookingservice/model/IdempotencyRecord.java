@@ -0,0 +1,55 @@
+package com.crcs.bookingservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of a booking write sent with an {@code Idempotency-Key}. The row is inserted
+ * IN_PROGRESS before the write runs (its primary key is the lock against concurrent retries)
+ * and completed with the response, which later retries are answered from.
+ */
+@Entity
+@Table(name = "booking_idempotency_keys", indexes = {
+        @Index(name = "idx_booking_idempotency_expires", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdempotencyRecord {
+    /** SHA-256 of the caller's user id and key. */
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    /** SHA-256 of method, path and body; a key reused for a different request is rejected. */
+    @Column(nullable = false, length = 64)
+    private String fingerprint;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "response_body", columnDefinition = "MEDIUMTEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED
+    }
+}
@@ -0,0 +1,23 @@
+package com.crcs.bookingservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per resource that has had a booking approved. Approvals lock the row of each
+ * resource they confirm bookings for before re-checking conflicts, so two approvals of
+ * overlapping bookings of the same resource run one after the other instead of both passing
+ * the check.
+ */
+@Entity
+@Table(name = "booking_resource_locks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceApprovalLock {
+    @Id
+    @Column(name = "resource_id", length = 36)
+    private String resourceId;
+}
@@ -0,0 +1,48 @@
+package com.crcs.bookingservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Pre-aggregated booked time for one resource in one clock hour. Rows are only ever adjusted
+ * by deltas (see {@code UtilizationService}), so reports read these counters instead of
+ * scanning bookings. CONFIRMED and COMPLETED bookings count as booked; PENDING ones are kept
+ * separately as unconfirmed demand.
+ */
+@Entity
+@Table(name = "booking_utilization", indexes = {
+        @Index(name = "idx_booking_utilization_bucket", columnList = "bucket_start")
+})
+@IdClass(UtilizationBucket.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UtilizationBucket {
+    @Id
+    @Column(name = "resource_id", length = 36)
+    private String resourceId;
+
+    /** Start of the hour this bucket covers. */
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Column(name = "booked_seconds", nullable = false)
+    private long bookedSeconds;
+
+    @Column(name = "pending_seconds", nullable = false)
+    private long pendingSeconds;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String resourceId;
+        private LocalDateTime bucketStart;
+    }
+}
@@ -0,0 +1,81 @@
+package com.crcs.bookingservice.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user waiting for a taken slot of a resource. Waiters are served first come, first served:
+ * idx_booking_waitlist_queue orders each resource's WAITING entries by slot start, so freeing
+ * a slot only reads the waiters whose slot starts inside it, never the whole list.
+ */
+@Entity
+@Table(name = "booking_waitlist", indexes = {
+        @Index(name = "idx_booking_waitlist_queue", columnList = "resource_id, status, start_time, created_at"),
+        @Index(name = "idx_booking_waitlist_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_booking_waitlist_status_start", columnList = "status, start_time")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistEntry {
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "user_id", nullable = false, length = 36)
+    private String userId;
+
+    @Column(name = "resource_id", nullable = false, length = 36)
+    private String resourceId;
+
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+
+    @Column(nullable = false, length = 50)
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+
+    @Column(name = "purpose", length = 500)
+    private String purpose;
+
+    /** Booking created for this waiter on promotion. */
+    @Column(name = "booking_id", length = 36)
+    private String bookingId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public enum WaitlistStatus {
+        WAITING,
+        /** Slot freed up and a PENDING booking was created for the waiter. */
+        PROMOTED,
+        /** Left the waitlist. */
+        CANCELLED,
+        /** Slot started while still waiting; set by the lifecycle worker. */
+        EXPIRED
+    }
+}
@@ -0,0 +1,48 @@
+package com.crcs.bookingservice.repository;
+
+import com.crcs.bookingservice.model.ArchivedBooking;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Cold booking history. Queries mirror the keyset listings on {@link BookingRepository} so
+ * the two can be merged page by page.
+ */
+@Repository
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, String> {
+
+    @Query("SELECT b FROM ArchivedBooking b WHERE b.userId = :userId " +
+           "AND (:cursorCreatedAt IS NULL OR b.createdAt < :cursorCreatedAt " +
+           "     OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<ArchivedBooking> findPageByUserId(@Param("userId") String userId,
+                                           @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                           @Param("cursorId") String cursorId,
+                                           Pageable pageable);
+
+    @Query("SELECT b FROM ArchivedBooking b WHERE b.resourceId = :resourceId " +
+           "AND (:cursorCreatedAt IS NULL OR b.createdAt < :cursorCreatedAt " +
+           "     OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<ArchivedBooking> findPageByResourceId(@Param("resourceId") String resourceId,
+                                               @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                               @Param("cursorId") String cursorId,
+                                               Pageable pageable);
+
+    @Query("SELECT b FROM ArchivedBooking b " +
+           "WHERE (:cursorCreatedAt IS NULL OR b.createdAt < :cursorCreatedAt " +
+           "     OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<ArchivedBooking> findPage(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                   @Param("cursorId") String cursorId,
+                                   Pageable pageable);
+
+    long countByUserId(String userId);
+    long countByResourceId(String resourceId);
+}
@@ -4,10 +4,12 @@ import com.crcs.bookingservice.model.Booking;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -19,10 +21,206 @@ public interface BookingRepository extends JpaRepository<Booking, String> {
     Page<Booking> findByResourceId(String resourceId, Pageable pageable);
     Page<Booking> findByStatus(Booking.BookingStatus status, Pageable pageable);
     
+    /**
+     * Keyset page of a user's bookings ordered by (createdAt DESC, id DESC), starting after the
+     * cursor position or from the newest booking when the cursor is null. No COUNT query.
+     */
+    @Query("SELECT b FROM Booking b WHERE b.userId = :userId " +
+           "AND (:cursorCreatedAt IS NULL OR b.createdAt < :cursorCreatedAt " +
+           "     OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Booking> findPageByUserId(@Param("userId") String userId,
+                                   @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                   @Param("cursorId") String cursorId,
+                                   Pageable pageable);
+
+    /**
+     * Keyset page of a resource's bookings; same ordering and cursor semantics as
+     * {@link #findPageByUserId}.
+     */
     @Query("SELECT b FROM Booking b WHERE b.resourceId = :resourceId " +
-           "AND b.status != 'CANCELLED' " +
-           "AND ((b.startTime <= :endTime AND b.endTime >= :startTime))")
-    List<Booking> findConflictingBookings(@Param("resourceId") String resourceId,
-                                          @Param("startTime") LocalDateTime startTime,
-                                          @Param("endTime") LocalDateTime endTime);
+           "AND (:cursorCreatedAt IS NULL OR b.createdAt < :cursorCreatedAt " +
+           "     OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Booking> findPageByResourceId(@Param("resourceId") String resourceId,
+                                       @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                       @Param("cursorId") String cursorId,
+                                       Pageable pageable);
+
+    /**
+     * Keyset page over all bookings; same ordering and cursor semantics as
+     * {@link #findPageByUserId}.
+     */
+    @Query("SELECT b FROM Booking b " +
+           "WHERE (:cursorCreatedAt IS NULL OR b.createdAt < :cursorCreatedAt " +
+           "     OR (b.createdAt = :cursorCreatedAt AND b.id < :cursorId)) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<Booking> findPage(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                           @Param("cursorId") String cursorId,
+                           Pageable pageable);
+
+    /**
+     * Bookings in {@code status} that ended at or before {@code cutoff}, in (endTime, id) order
+     * after the cursor. Drives the lifecycle worker's completion sweep.
+     */
+    @Query("SELECT b FROM Booking b WHERE b.status = :status AND b.endTime <= :cutoff " +
+           "AND (:cursorTime IS NULL OR b.endTime > :cursorTime " +
+           "     OR (b.endTime = :cursorTime AND b.id > :cursorId)) " +
+           "ORDER BY b.endTime, b.id")
+    List<Booking> findEndedBefore(@Param("status") Booking.BookingStatus status,
+                                  @Param("cutoff") LocalDateTime cutoff,
+                                  @Param("cursorTime") LocalDateTime cursorTime,
+                                  @Param("cursorId") String cursorId,
+                                  Pageable pageable);
+
+    /**
+     * Bookings in {@code status} that started at or before {@code cutoff}, in (startTime, id)
+     * order after the cursor. Drives the lifecycle worker's expiry sweep.
+     */
+    @Query("SELECT b FROM Booking b WHERE b.status = :status AND b.startTime <= :cutoff " +
+           "AND (:cursorTime IS NULL OR b.startTime > :cursorTime " +
+           "     OR (b.startTime = :cursorTime AND b.id > :cursorId)) " +
+           "ORDER BY b.startTime, b.id")
+    List<Booking> findStartedBefore(@Param("status") Booking.BookingStatus status,
+                                    @Param("cutoff") LocalDateTime cutoff,
+                                    @Param("cursorTime") LocalDateTime cursorTime,
+                                    @Param("cursorId") String cursorId,
+                                    Pageable pageable);
+
+    @Query("SELECT MIN(b.endTime) FROM Booking b WHERE b.status = :status AND b.endTime <= :cutoff")
+    Optional<LocalDateTime> findOldestEndedBefore(@Param("status") Booking.BookingStatus status,
+                                                  @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT MIN(b.startTime) FROM Booking b WHERE b.status = :status AND b.startTime <= :cutoff")
+    Optional<LocalDateTime> findOldestStartedBefore(@Param("status") Booking.BookingStatus status,
+                                                    @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Move one booking from {@code from} to {@code to}. Returns 0 if its status has changed in
+     * the meantime (e.g. another instance or a user got there first).
+     */
+    @Modifying
+    @Query("UPDATE Booking b SET b.status = :to, b.updatedAt = :now WHERE b.id = :id AND b.status = :from")
+    int transition(@Param("id") String id,
+                   @Param("from") Booking.BookingStatus from,
+                   @Param("to") Booking.BookingStatus to,
+                   @Param("now") LocalDateTime now);
+
+    /**
+     * Ids of up to {@code limit} bookings in {@code status} that ended before {@code cutoff},
+     * oldest first, read from idx_bookings_status_end (one status, so no filesort). The rows
+     * are locked until the caller's transaction ends, and rows another archiver has locked are
+     * skipped, so concurrent instances never pick the same booking.
+     */
+    @Query(value = "SELECT id FROM bookings WHERE status = :status AND end_time < :cutoff " +
+                   "ORDER BY end_time, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<String> lockArchivableIds(@Param("status") String status,
+                                   @Param("cutoff") LocalDateTime cutoff,
+                                   @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO bookings_archive (id, user_id, resource_id, start_time, end_time, status, purpose, " +
+                   "created_at, updated_at, archived_at) " +
+                   "SELECT id, user_id, resource_id, start_time, end_time, status, purpose, created_at, updated_at, :now " +
+                   "FROM bookings WHERE id IN (:ids) AND status IN ('COMPLETED', 'CANCELLED', 'EXPIRED')", nativeQuery = true)
+    int copyToArchive(@Param("ids") List<String> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Delete the hot rows among {@code ids} that {@link #copyToArchive} has copied.
+     */
+    @Modifying
+    @Query(value = "DELETE b FROM bookings b JOIN bookings_archive a ON a.id = b.id WHERE b.id IN (:ids)", nativeQuery = true)
+    int deleteArchived(@Param("ids") List<String> ids);
+
+    long countByUserId(String userId);
+    long countByResourceId(String resourceId);
+
+    /**
+     * 1 if any active booking of the resource overlaps [startTime, endTime], otherwise null.
+     * Stops at the first matching index entry; use {@link #existsConflictingBooking}.
+     * {@code earliestStart} bounds the start_time range from below (see there).
+     */
+    @Query(value = "SELECT 1 FROM bookings WHERE resource_id = :resourceId " +
+                   "AND start_time >= :earliestStart AND start_time <= :endTime AND end_time >= :startTime " +
+                   "AND status IN ('PENDING', 'CONFIRMED', 'COMPLETED') LIMIT 1",
+           nativeQuery = true)
+    Integer findConflictProbe(@Param("resourceId") String resourceId,
+                              @Param("earliestStart") LocalDateTime earliestStart,
+                              @Param("startTime") LocalDateTime startTime,
+                              @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * @param maxDuration longest booking that can exist: an overlapping booking then starts no
+     *                    earlier than {@code startTime - maxDuration}, so the index range scan
+     *                    covers only that window instead of the resource's whole history
+     */
+    default boolean existsConflictingBooking(String resourceId, LocalDateTime startTime, LocalDateTime endTime,
+                                             Duration maxDuration) {
+        return findConflictProbe(resourceId, startTime.minus(maxDuration), startTime, endTime) != null;
+    }
+
+    /**
+     * Time windows of the active bookings of the resource overlapping [startTime, endTime],
+     * earliest first. Equality on resource_id and a range on start_time from
+     * {@code earliestStart} (start time minus the maximum booking duration), so it seeks
+     * idx_bookings_resource_time; end_time and status are checked from the index entries.
+     */
+    @Query("SELECT b.startTime AS startTime, b.endTime AS endTime FROM Booking b " +
+           "WHERE b.resourceId = :resourceId " +
+           "AND b.startTime >= :earliestStart AND b.startTime <= :endTime AND b.endTime >= :startTime " +
+           "AND b.status IN ('PENDING', 'CONFIRMED', 'COMPLETED') " +
+           "ORDER BY b.startTime")
+    List<BookingWindow> findConflictingWindows(@Param("resourceId") String resourceId,
+                                               @Param("earliestStart") LocalDateTime earliestStart,
+                                               @Param("startTime") LocalDateTime startTime,
+                                               @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Windows of the active bookings of any of the resources that overlap [from, to) by more
+     * than an instant, for the availability matrix. {@code earliestStart} (from minus the
+     * maximum booking duration) bounds each resource's idx_bookings_resource_time range.
+     */
+    @Query("SELECT b.resourceId AS resourceId, b.startTime AS startTime, b.endTime AS endTime FROM Booking b " +
+           "WHERE b.resourceId IN :resourceIds " +
+           "AND b.startTime >= :earliestStart AND b.startTime < :to AND b.endTime > :from " +
+           "AND b.status IN ('PENDING', 'CONFIRMED', 'COMPLETED')")
+    List<ResourceBookingWindow> findActiveWindows(@Param("resourceIds") List<String> resourceIds,
+                                                  @Param("earliestStart") LocalDateTime earliestStart,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+
+    /**
+     * Keyset page of the pending-approval queue, oldest request first, over
+     * idx_bookings_status_created. Restricted to {@code resourceIds} unless
+     * {@code anyResource} is true (pass a non-empty placeholder list then), and to bookings
+     * starting in [from, to) when those are given.
+     */
+    @Query("SELECT b FROM Booking b WHERE b.status = 'PENDING' " +
+           "AND (:anyResource = true OR b.resourceId IN :resourceIds) " +
+           "AND (:from IS NULL OR b.startTime >= :from) " +
+           "AND (:to IS NULL OR b.startTime < :to) " +
+           "AND (:cursorCreatedAt IS NULL OR b.createdAt > :cursorCreatedAt " +
+           "     OR (b.createdAt = :cursorCreatedAt AND b.id > :cursorId)) " +
+           "ORDER BY b.createdAt ASC, b.id ASC")
+    List<Booking> findPendingQueue(@Param("anyResource") boolean anyResource,
+                                   @Param("resourceIds") List<String> resourceIds,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to,
+                                   @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                   @Param("cursorId") String cursorId,
+                                   Pageable pageable);
+
+    /**
+     * Windows of the confirmed (or completed) bookings of any of the resources overlapping
+     * [from, to], for re-checking conflicts before approving a batch. {@code earliestStart} is
+     * from minus the maximum booking duration, as in {@link #findActiveWindows}.
+     */
+    @Query("SELECT b.resourceId AS resourceId, b.startTime AS startTime, b.endTime AS endTime FROM Booking b " +
+           "WHERE b.resourceId IN :resourceIds " +
+           "AND b.startTime >= :earliestStart AND b.startTime <= :to AND b.endTime >= :from " +
+           "AND b.status IN ('CONFIRMED', 'COMPLETED')")
+    List<ResourceBookingWindow> findCommittedWindows(@Param("resourceIds") List<String> resourceIds,
+                                                     @Param("earliestStart") LocalDateTime earliestStart,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
 }
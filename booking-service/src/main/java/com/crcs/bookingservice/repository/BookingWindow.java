@@ -0,0 +1,12 @@
+package com.crcs.bookingservice.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Start and end of a booking, selected without hydrating the entity.
+ */
+public interface BookingWindow {
+    LocalDateTime getStartTime();
+
+    LocalDateTime getEndTime();
+}
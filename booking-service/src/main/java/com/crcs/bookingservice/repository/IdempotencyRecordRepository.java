@@ -0,0 +1,54 @@
+package com.crcs.bookingservice.repository;
+
+import com.crcs.bookingservice.model.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * Claim a key. A plain INSERT (not a merge) so that a concurrent claim of the same key
+     * fails on the primary key instead of overwriting it.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO booking_idempotency_keys (id, fingerprint, status, created_at, expires_at) " +
+                   "VALUES (:id, :fingerprint, 'IN_PROGRESS', :now, :expiresAt)", nativeQuery = true)
+    int insertInProgress(@Param("id") String id,
+                         @Param("fingerprint") String fingerprint,
+                         @Param("now") LocalDateTime now,
+                         @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE IdempotencyRecord r SET r.status = 'COMPLETED', r.responseStatus = :responseStatus, " +
+           "r.contentType = :contentType, r.responseBody = :responseBody WHERE r.id = :id")
+    int complete(@Param("id") String id,
+                 @Param("responseStatus") int responseStatus,
+                 @Param("contentType") String contentType,
+                 @Param("responseBody") String responseBody);
+
+    /** Release a claim whose request failed, so a retry runs it again. */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.status = 'IN_PROGRESS'")
+    int release(@Param("id") String id);
+
+    /** Drop an IN_PROGRESS claim created before {@code before}, left by a crashed request. */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.status = 'IN_PROGRESS' AND r.createdAt < :before")
+    int releaseStale(@Param("id") String id, @Param("before") LocalDateTime before);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
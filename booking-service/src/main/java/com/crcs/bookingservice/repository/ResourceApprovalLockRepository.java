@@ -0,0 +1,21 @@
+package com.crcs.bookingservice.repository;
+
+import com.crcs.bookingservice.model.ResourceApprovalLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResourceApprovalLockRepository extends JpaRepository<ResourceApprovalLock, String> {
+
+    /**
+     * Take the resource's approval lock until the caller's transaction ends, creating the row on
+     * first use. The upsert locks the row exclusively whether or not it already existed.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO booking_resource_locks (resource_id) VALUES (:resourceId) " +
+                   "ON DUPLICATE KEY UPDATE resource_id = resource_id", nativeQuery = true)
+    int lock(@Param("resourceId") String resourceId);
+}
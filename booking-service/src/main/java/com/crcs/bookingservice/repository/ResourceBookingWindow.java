@@ -0,0 +1,8 @@
+package com.crcs.bookingservice.repository;
+
+/**
+ * {@link BookingWindow} together with the booked resource, for multi-resource queries.
+ */
+public interface ResourceBookingWindow extends BookingWindow {
+    String getResourceId();
+}
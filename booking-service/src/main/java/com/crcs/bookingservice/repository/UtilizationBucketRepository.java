@@ -0,0 +1,27 @@
+package com.crcs.bookingservice.repository;
+
+import com.crcs.bookingservice.model.UtilizationBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface UtilizationBucketRepository extends JpaRepository<UtilizationBucket, UtilizationBucket.Key>,
+        UtilizationCounterRepository {
+
+    /**
+     * Non-empty hourly buckets in [from, to), optionally for one resource (null means all).
+     */
+    @Query("SELECT u FROM UtilizationBucket u " +
+           "WHERE u.bucketStart >= :from AND u.bucketStart < :to " +
+           "AND (:resourceId IS NULL OR u.resourceId = :resourceId) " +
+           "AND (u.bookedSeconds <> 0 OR u.pendingSeconds <> 0) " +
+           "ORDER BY u.resourceId, u.bucketStart")
+    List<UtilizationBucket> findBuckets(@Param("resourceId") String resourceId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,16 @@
+package com.crcs.bookingservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Custom fragment of {@link UtilizationBucketRepository}: applies counter deltas with upserts,
+ * so concurrent transitions touching the same hour add up instead of overwriting each other.
+ */
+public interface UtilizationCounterRepository {
+
+    record Delta(String resourceId, LocalDateTime bucketStart, long bookedSeconds, long pendingSeconds) {
+    }
+
+    void applyDeltas(List<Delta> deltas);
+}
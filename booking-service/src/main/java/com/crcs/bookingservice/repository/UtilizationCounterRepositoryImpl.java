@@ -0,0 +1,42 @@
+package com.crcs.bookingservice.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+public class UtilizationCounterRepositoryImpl implements UtilizationCounterRepository {
+    /** Rows per INSERT statement; a week-long booking spans 168 hourly buckets. */
+    private static final int ROWS_PER_STATEMENT = 200;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void applyDeltas(List<Delta> deltas) {
+        for (int from = 0; from < deltas.size(); from += ROWS_PER_STATEMENT) {
+            List<Delta> chunk = deltas.subList(from, Math.min(from + ROWS_PER_STATEMENT, deltas.size()));
+            StringBuilder sql = new StringBuilder(
+                    "INSERT INTO booking_utilization (resource_id, bucket_start, booked_seconds, pending_seconds) VALUES ");
+            for (int i = 0; i < chunk.size(); i++) {
+                sql.append(i == 0 ? "" : ", ")
+                        .append("(:r").append(i).append(", :t").append(i)
+                        .append(", :b").append(i).append(", :p").append(i).append(')');
+            }
+            sql.append(" ON DUPLICATE KEY UPDATE")
+                    .append(" booked_seconds = booked_seconds + VALUES(booked_seconds),")
+                    .append(" pending_seconds = pending_seconds + VALUES(pending_seconds)");
+
+            Query query = entityManager.createNativeQuery(sql.toString());
+            for (int i = 0; i < chunk.size(); i++) {
+                Delta delta = chunk.get(i);
+                query.setParameter("r" + i, delta.resourceId());
+                query.setParameter("t" + i, delta.bucketStart());
+                query.setParameter("b" + i, delta.bookedSeconds());
+                query.setParameter("p" + i, delta.pendingSeconds());
+            }
+            query.executeUpdate();
+        }
+    }
+}
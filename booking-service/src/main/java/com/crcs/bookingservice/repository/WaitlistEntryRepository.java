@@ -0,0 +1,82 @@
+package com.crcs.bookingservice.repository;
+
+import com.crcs.bookingservice.model.WaitlistEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, String> {
+
+    /**
+     * Waiters of the resource whose future slot overlaps [from, to], first come first.
+     * Seeks idx_booking_waitlist_queue on (resource_id, WAITING) and reads only the start_time
+     * range (now, to), so freeing a slot never touches other resources' or past waiters.
+     */
+    @Query("SELECT w FROM WaitlistEntry w WHERE w.resourceId = :resourceId AND w.status = 'WAITING' " +
+           "AND w.startTime > :now AND w.startTime < :to AND w.endTime > :from " +
+           "ORDER BY w.createdAt ASC, w.id ASC")
+    List<WaitlistEntry> findPromotable(@Param("resourceId") String resourceId,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       @Param("now") LocalDateTime now,
+                                       Pageable pageable);
+
+    /**
+     * Waiters ahead of an entry: WAITING on an overlapping slot of the same resource and
+     * queued earlier.
+     */
+    @Query("SELECT COUNT(w) FROM WaitlistEntry w WHERE w.resourceId = :resourceId AND w.status = 'WAITING' " +
+           "AND w.startTime > :now AND w.startTime < :to AND w.endTime > :from " +
+           "AND (w.createdAt < :createdAt OR (w.createdAt = :createdAt AND w.id < :id))")
+    long countAhead(@Param("resourceId") String resourceId,
+                    @Param("from") LocalDateTime from,
+                    @Param("to") LocalDateTime to,
+                    @Param("now") LocalDateTime now,
+                    @Param("createdAt") LocalDateTime createdAt,
+                    @Param("id") String id);
+
+    boolean existsByUserIdAndResourceIdAndStartTimeAndEndTimeAndStatus(String userId, String resourceId,
+                                                                       LocalDateTime startTime, LocalDateTime endTime,
+                                                                       WaitlistEntry.WaitlistStatus status);
+
+    List<WaitlistEntry> findByUserIdOrderByCreatedAtDesc(String userId, Pageable pageable);
+
+    /**
+     * Claim a waiter for promotion. Returns 0 if it already left or was promoted by a
+     * concurrent cancellation.
+     */
+    @Modifying
+    @Query("UPDATE WaitlistEntry w SET w.status = 'PROMOTED', w.bookingId = :bookingId, w.updatedAt = :now " +
+           "WHERE w.id = :id AND w.status = 'WAITING'")
+    int promote(@Param("id") String id, @Param("bookingId") String bookingId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE WaitlistEntry w SET w.status = 'CANCELLED', w.updatedAt = :now " +
+           "WHERE w.id = :id AND w.userId = :userId AND w.status = 'WAITING'")
+    int cancel(@Param("id") String id, @Param("userId") String userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Expire up to {@code batchSize} WAITING entries whose slot has started; they can no longer
+     * be promoted. Reads idx_booking_waitlist_status_start.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE booking_waitlist SET status = 'EXPIRED', updated_at = :now " +
+                   "WHERE status = 'WAITING' AND start_time <= :now LIMIT :batchSize", nativeQuery = true)
+    int expireStarted(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+    /** Delete up to {@code batchSize} finished (non-WAITING) entries whose slot started before the cutoff. */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM booking_waitlist WHERE status IN ('PROMOTED', 'CANCELLED', 'EXPIRED') " +
+                   "AND start_time < :cutoff LIMIT :batchSize", nativeQuery = true)
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,102 @@
+package com.crcs.bookingservice.service;
+
+import com.crcs.bookingservice.dto.request.AvailabilityMatrixRequestDTO;
+import com.crcs.bookingservice.dto.response.AvailabilityMatrixResponseDTO;
+import com.crcs.bookingservice.repository.BookingRepository;
+import com.crcs.bookingservice.repository.ResourceBookingWindow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Availability of many resources over a time grid, for dashboard views. Reads only booking
+ * windows, one range query per batch of resources, and does not consult the resource service:
+ * a resource that is under maintenance shows as free here, as it does in its bookings.
+ */
+@Service
+public class AvailabilityMatrixService {
+    static final int RESOURCE_BATCH_SIZE = 100;
+    /** A week of 5-minute slots. */
+    static final int MAX_SLOTS = 2016;
+
+    private final BookingRepository bookingRepository;
+    private final Duration maxBookingDuration;
+
+    public AvailabilityMatrixService(BookingRepository bookingRepository,
+                                     @Value("${booking.max-duration-hours:168}") long maxDurationHours) {
+        this.bookingRepository = bookingRepository;
+        this.maxBookingDuration = Duration.ofHours(maxDurationHours);
+    }
+
+    @Transactional(readOnly = true)
+    public AvailabilityMatrixResponseDTO getMatrix(AvailabilityMatrixRequestDTO request) {
+        LocalDateTime from = request.getFrom();
+        LocalDateTime to = request.getTo();
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("'to' must be after 'from'");
+        }
+        long slotSeconds = request.getSlotMinutes() * 60L;
+        long rangeSeconds = Duration.between(from, to).getSeconds();
+        long slotCount = (rangeSeconds + slotSeconds - 1) / slotSeconds;
+        if (slotCount > MAX_SLOTS) {
+            throw new IllegalArgumentException("Time grid has " + slotCount + " slots; at most " + MAX_SLOTS
+                    + " are allowed. Use a shorter range or longer slots");
+        }
+        int slots = (int) slotCount;
+        LocalDateTime gridEnd = from.plusSeconds(slotSeconds * slots);
+
+        Map<String, byte[]> bits = new LinkedHashMap<>();
+        for (String resourceId : new LinkedHashSet<>(request.getResourceIds())) {
+            bits.put(resourceId, new byte[(slots + 7) / 8]);
+        }
+        List<String> ids = new ArrayList<>(bits.keySet());
+        for (int i = 0; i < ids.size(); i += RESOURCE_BATCH_SIZE) {
+            List<String> batch = ids.subList(i, Math.min(i + RESOURCE_BATCH_SIZE, ids.size()));
+            for (ResourceBookingWindow window : bookingRepository.findActiveWindows(batch,
+                    from.minus(maxBookingDuration), from, gridEnd)) {
+                mark(bits.get(window.getResourceId()), from, slotSeconds, slots,
+                        window.getStartTime(), window.getEndTime());
+            }
+        }
+
+        Base64.Encoder encoder = Base64.getEncoder();
+        List<AvailabilityMatrixResponseDTO.Row> rows = new ArrayList<>(bits.size());
+        bits.forEach((resourceId, row) -> rows.add(new AvailabilityMatrixResponseDTO.Row(
+                resourceId, encoder.encodeToString(row), bitCount(row))));
+        return new AvailabilityMatrixResponseDTO(from, gridEnd, request.getSlotMinutes(), slots, rows);
+    }
+
+    /**
+     * Set the bits of every slot [from + i * slot, from + (i + 1) * slot) the booking overlaps.
+     */
+    static void mark(byte[] row, LocalDateTime from, long slotSeconds, int slots,
+                     LocalDateTime start, LocalDateTime end) {
+        long startOffset = Math.max(0, Duration.between(from, start).getSeconds());
+        long endOffset = Math.min(slotSeconds * slots, Duration.between(from, end).getSeconds());
+        if (endOffset <= startOffset) {
+            return;
+        }
+        int first = (int) (startOffset / slotSeconds);
+        int last = (int) ((endOffset - 1) / slotSeconds);
+        for (int slot = first; slot <= last; slot++) {
+            row[slot >> 3] |= (byte) (1 << (slot & 7));
+        }
+    }
+
+    private static int bitCount(byte[] row) {
+        int count = 0;
+        for (byte b : row) {
+            count += Integer.bitCount(b & 0xFF);
+        }
+        return count;
+    }
+}
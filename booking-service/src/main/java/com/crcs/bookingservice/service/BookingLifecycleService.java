@@ -0,0 +1,72 @@
+package com.crcs.bookingservice.service;
+
+import com.crcs.bookingservice.model.Booking;
+import com.crcs.bookingservice.repository.BookingRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Transactional half of the lifecycle worker: applies one batch of status transitions (with
+ * the matching utilization deltas) or archive moves atomically.
+ */
+@Service
+public class BookingLifecycleService {
+    /** Statuses a booking never leaves on its own, and so can be archived once old enough. */
+    static final List<Booking.BookingStatus> ARCHIVABLE_STATUSES = List.of(
+            Booking.BookingStatus.COMPLETED, Booking.BookingStatus.CANCELLED, Booking.BookingStatus.EXPIRED);
+
+    private final BookingRepository bookingRepository;
+    private final UtilizationService utilizationService;
+
+    public BookingLifecycleService(BookingRepository bookingRepository, UtilizationService utilizationService) {
+        this.bookingRepository = bookingRepository;
+        this.utilizationService = utilizationService;
+    }
+
+    /**
+     * Move each booking still in {@code from} to {@code to}. Bookings whose status changed
+     * since they were read are skipped.
+     *
+     * @return the bookings actually transitioned
+     */
+    @Transactional
+    public List<Booking> transitionBatch(List<Booking> bookings, Booking.BookingStatus from, Booking.BookingStatus to) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Booking> transitioned = new ArrayList<>();
+        for (Booking booking : bookings) {
+            if (bookingRepository.transition(booking.getId(), from, to, now) == 1) {
+                utilizationService.recordTransition(booking, from, to);
+                transitioned.add(booking);
+            }
+        }
+        return transitioned;
+    }
+
+    /**
+     * Move up to {@code batchSize} finished bookings that ended before {@code cutoff} from
+     * {@code bookings} to {@code bookings_archive}. Utilization counters are unaffected: the
+     * booked time still happened. The selected rows stay locked until commit, so instances
+     * archiving at the same time take disjoint batches.
+     *
+     * @return number of bookings moved
+     */
+    @Transactional
+    public int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        List<String> ids = new ArrayList<>();
+        for (Booking.BookingStatus status : ARCHIVABLE_STATUSES) {
+            if (ids.size() >= batchSize) {
+                break;
+            }
+            ids.addAll(bookingRepository.lockArchivableIds(status.name(), cutoff, batchSize - ids.size()));
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        bookingRepository.copyToArchive(ids, LocalDateTime.now());
+        return bookingRepository.deleteArchived(ids);
+    }
+}
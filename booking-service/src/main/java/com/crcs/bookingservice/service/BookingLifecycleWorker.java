@@ -0,0 +1,228 @@
+package com.crcs.bookingservice.service;
+
+import com.crcs.bookingservice.dto.response.LifecycleStatsDTO;
+import com.crcs.bookingservice.model.Booking;
+import com.crcs.bookingservice.repository.BookingRepository;
+import com.crcs.bookingservice.repository.WaitlistEntryRepository;
+import com.crcs.bookingservice.stream.BookingStreamPublisher;
+import com.crcs.common.dto.booking.BookingLifecycleEvent;
+import com.crcs.kafka.producer.KafkaEventProducer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves bookings to their terminal states: CONFIRMED bookings that have ended become
+ * COMPLETED, and PENDING requests whose start time passed (plus a grace period) without
+ * approval become EXPIRED. Each sweep walks the due rows by (time, id) cursor in bounded
+ * batches, one transaction per batch, and stops after {@code max-batches-per-sweep} so a
+ * large backlog is worked off over several runs instead of in one long pass. Transitions
+ * are conditional on the old status, so several instances can sweep concurrently. Waitlist
+ * entries still WAITING when their slot starts are marked EXPIRED in the same sweep.
+ *
+ * <p>A second, less frequent job moves finished bookings older than {@code archive.after-days}
+ * into {@code bookings_archive}, keeping the hot table (and every conflict check against it)
+ * limited to current and recent bookings, and deletes finished waitlist entries of that age.
+ */
+@Component
+public class BookingLifecycleWorker {
+    private static final Logger logger = LoggerFactory.getLogger(BookingLifecycleWorker.class);
+
+    private final BookingRepository bookingRepository;
+    private final BookingLifecycleService bookingLifecycleService;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final KafkaEventProducer kafkaEventProducer;
+    private final BookingStreamPublisher bookingStreamPublisher;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final int batchSize;
+    private final int maxBatchesPerSweep;
+    private final long pendingGraceMinutes;
+    private final long archiveAfterDays;
+    private final int archiveBatchSize;
+    private final int archiveMaxBatches;
+
+    private final AtomicLong totalCompleted = new AtomicLong();
+    private final AtomicLong totalExpired = new AtomicLong();
+    private final AtomicLong totalArchived = new AtomicLong();
+    private volatile LifecycleStatsDTO lastSweep = new LifecycleStatsDTO();
+    private volatile LocalDateTime lastArchiveAt;
+    private volatile int lastArchived;
+
+    public BookingLifecycleWorker(BookingRepository bookingRepository,
+                                  BookingLifecycleService bookingLifecycleService,
+                                  WaitlistEntryRepository waitlistEntryRepository,
+                                  KafkaEventProducer kafkaEventProducer, BookingStreamPublisher bookingStreamPublisher,
+                                  ObjectMapper objectMapper,
+                                  @Value("${kafka.booking-lifecycle.topic:" + BookingLifecycleEvent.DEFAULT_TOPIC + "}") String topic,
+                                  @Value("${booking.lifecycle.batch-size:500}") int batchSize,
+                                  @Value("${booking.lifecycle.max-batches-per-sweep:20}") int maxBatchesPerSweep,
+                                  @Value("${booking.lifecycle.pending-grace-minutes:15}") long pendingGraceMinutes,
+                                  @Value("${booking.archive.after-days:90}") long archiveAfterDays,
+                                  @Value("${booking.archive.batch-size:1000}") int archiveBatchSize,
+                                  @Value("${booking.archive.max-batches-per-run:50}") int archiveMaxBatches) {
+        this.bookingRepository = bookingRepository;
+        this.bookingLifecycleService = bookingLifecycleService;
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.kafkaEventProducer = kafkaEventProducer;
+        this.bookingStreamPublisher = bookingStreamPublisher;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.maxBatchesPerSweep = maxBatchesPerSweep;
+        this.pendingGraceMinutes = pendingGraceMinutes;
+        this.archiveAfterDays = archiveAfterDays;
+        this.archiveBatchSize = archiveBatchSize;
+        this.archiveMaxBatches = archiveMaxBatches;
+    }
+
+    @Scheduled(fixedDelayString = "${booking.lifecycle.sweep-interval-ms:60000}",
+               initialDelayString = "${booking.lifecycle.initial-delay-ms:30000}")
+    public void sweep() {
+        long start = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiryCutoff = now.minusMinutes(pendingGraceMinutes);
+
+        long completionLag = lagSeconds(bookingRepository.findOldestEndedBefore(Booking.BookingStatus.CONFIRMED, now), now);
+        long expiryLag = lagSeconds(bookingRepository.findOldestStartedBefore(Booking.BookingStatus.PENDING, expiryCutoff), expiryCutoff);
+
+        int[] completed = drain(Booking.BookingStatus.CONFIRMED, Booking.BookingStatus.COMPLETED, now, true);
+        int[] expired = drain(Booking.BookingStatus.PENDING, Booking.BookingStatus.EXPIRED, expiryCutoff, false);
+        int waitlistExpired = expireWaitlist(now);
+
+        lastSweep = new LifecycleStatsDTO(now, System.currentTimeMillis() - start, batchSize,
+                completed[1] + expired[1], completed[0], expired[0], completionLag, expiryLag,
+                totalCompleted.addAndGet(completed[0]), totalExpired.addAndGet(expired[0]),
+                lastArchiveAt, lastArchived, totalArchived.get());
+        if (completed[0] > 0 || expired[0] > 0) {
+            logger.info("Lifecycle sweep: {} completed, {} expired in {} batch(es), {} ms; lag {}s / {}s",
+                    completed[0], expired[0], lastSweep.getBatches(), lastSweep.getLastSweepMillis(),
+                    completionLag, expiryLag);
+        }
+        if (waitlistExpired > 0) {
+            logger.info("Lifecycle sweep: {} waitlist entr(ies) expired", waitlistExpired);
+        }
+    }
+
+    /**
+     * Archive finished bookings older than {@code after-days}. Disabled when after-days is 0.
+     */
+    @Scheduled(fixedDelayString = "${booking.archive.interval-ms:3600000}",
+               initialDelayString = "${booking.archive.initial-delay-ms:120000}")
+    public void archive() {
+        if (archiveAfterDays <= 0) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveAfterDays);
+        int archived = 0;
+        for (int batch = 0; batch < archiveMaxBatches; batch++) {
+            int moved = bookingLifecycleService.archiveBatch(cutoff, archiveBatchSize);
+            archived += moved;
+            if (moved < archiveBatchSize) {
+                break;
+            }
+        }
+        int purged = 0;
+        for (int batch = 0; batch < archiveMaxBatches; batch++) {
+            int deleted = waitlistEntryRepository.deleteFinishedBefore(cutoff, archiveBatchSize);
+            purged += deleted;
+            if (deleted < archiveBatchSize) {
+                break;
+            }
+        }
+        lastArchiveAt = LocalDateTime.now();
+        lastArchived = archived;
+        totalArchived.addAndGet(archived);
+        if (archived > 0) {
+            logger.info("Archived {} booking(s) that ended before {} in {} ms", archived, cutoff,
+                    System.currentTimeMillis() - start);
+        }
+        if (purged > 0) {
+            logger.info("Deleted {} finished waitlist entr(ies) with slots before {}", purged, cutoff);
+        }
+    }
+
+    public LifecycleStatsDTO getLastSweepStats() {
+        LifecycleStatsDTO stats = lastSweep;
+        return new LifecycleStatsDTO(stats.getLastSweepAt(), stats.getLastSweepMillis(), stats.getBatchSize(),
+                stats.getBatches(), stats.getCompleted(), stats.getExpired(), stats.getCompletionLagSeconds(),
+                stats.getExpiryLagSeconds(), stats.getTotalCompleted(), stats.getTotalExpired(),
+                lastArchiveAt, lastArchived, totalArchived.get());
+    }
+
+    /**
+     * @param byEndTime cursor on endTime (completion) or startTime (expiry)
+     * @return {transitioned, batches}
+     */
+    private int[] drain(Booking.BookingStatus from, Booking.BookingStatus to, LocalDateTime cutoff, boolean byEndTime) {
+        int transitioned = 0;
+        int batches = 0;
+        LocalDateTime cursorTime = null;
+        String cursorId = null;
+        while (batches < maxBatchesPerSweep) {
+            List<Booking> batch = byEndTime
+                    ? bookingRepository.findEndedBefore(from, cutoff, cursorTime, cursorId, PageRequest.of(0, batchSize))
+                    : bookingRepository.findStartedBefore(from, cutoff, cursorTime, cursorId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            batches++;
+            List<Booking> done = bookingLifecycleService.transitionBatch(batch, from, to);
+            transitioned += done.size();
+            String eventType = to == Booking.BookingStatus.COMPLETED
+                    ? BookingLifecycleEvent.BOOKING_COMPLETED : BookingLifecycleEvent.BOOKING_EXPIRED;
+            done.forEach(booking -> {
+                publish(eventType, booking);
+                bookingStreamPublisher.publish(booking, from, to);
+            });
+            if (batch.size() < batchSize) {
+                break;
+            }
+            Booking lastRow = batch.get(batch.size() - 1);
+            cursorTime = byEndTime ? lastRow.getEndTime() : lastRow.getStartTime();
+            cursorId = lastRow.getId();
+        }
+        return new int[]{transitioned, batches};
+    }
+
+    /**
+     * Mark WAITING entries whose slot has started as EXPIRED, at most batch-size x
+     * max-batches-per-sweep per sweep.
+     */
+    private int expireWaitlist(LocalDateTime now) {
+        int expired = 0;
+        for (int batch = 0; batch < maxBatchesPerSweep; batch++) {
+            int updated = waitlistEntryRepository.expireStarted(now, batchSize);
+            expired += updated;
+            if (updated < batchSize) {
+                break;
+            }
+        }
+        return expired;
+    }
+
+    private void publish(String eventType, Booking booking) {
+        try {
+            BookingLifecycleEvent event = new BookingLifecycleEvent(eventType, booking.getId(), booking.getUserId(),
+                    booking.getResourceId(), booking.getStartTime(), booking.getEndTime(), System.currentTimeMillis());
+            kafkaEventProducer.sendJsonMessage(topic, booking.getResourceId(), objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            logger.error("Failed to publish {} for bookingId: {}", eventType, booking.getId(), e);
+        }
+    }
+
+    private static long lagSeconds(Optional<LocalDateTime> oldestDue, LocalDateTime cutoff) {
+        return oldestDue.map(due -> Duration.between(due, cutoff).getSeconds()).orElse(0L);
+    }
+}
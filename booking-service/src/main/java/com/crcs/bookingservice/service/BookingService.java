@@ -1,35 +1,61 @@
 package com.crcs.bookingservice.service;
 
+import com.crcs.bookingservice.dto.request.BulkBookingDecisionRequestDTO;
 import com.crcs.bookingservice.dto.request.CreateBookingRequestDTO;
 import com.crcs.bookingservice.dto.request.UpdateBookingStatusRequestDTO;
 import com.crcs.bookingservice.dto.response.AvailabilityCheckResponseDTO;
 import com.crcs.bookingservice.dto.response.BookingResponseDTO;
-import com.crcs.bookingservice.dto.response.PageResponseDTO;
+import com.crcs.bookingservice.dto.response.BulkBookingDecisionResultDTO;
 import com.crcs.bookingservice.dto.response.ResourceResponseDTO;
 import com.crcs.bookingservice.dto.response.UserProfileResponseDTO;
+import com.crcs.bookingservice.exception.BookingStatusConflictException;
+import com.crcs.bookingservice.model.ArchivedBooking;
 import com.crcs.bookingservice.model.Booking;
+import com.crcs.bookingservice.repository.ArchivedBookingRepository;
 import com.crcs.bookingservice.repository.BookingRepository;
+import com.crcs.bookingservice.repository.ResourceApprovalLockRepository;
+import com.crcs.bookingservice.repository.ResourceBookingWindow;
+import com.crcs.bookingservice.stream.BookingStreamPublisher;
 import com.crcs.kafka.producer.KafkaEventProducer;
 import com.crcs.common.dto.notification.KafkaEvent;
 import com.crcs.common.dto.notification.Notification;
 import com.crcs.common.dto.notification.NotificationChannel;
 import com.crcs.common.dto.notification.NotificationCommunicationParams;
 import com.crcs.common.dto.notification.NotificationData;
+import com.crcs.common.pagination.KeysetPages;
+import com.crcs.common.pagination.PageCursor;
+import com.crcs.common.pagination.PageResponseDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,16 +65,40 @@ public class BookingService {
     private final ResourceServiceClient resourceServiceClient;
     private final UserServiceClient userServiceClient;
     private final KafkaEventProducer kafkaEventProducer;
+    private final UtilizationService utilizationService;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private final BookingStreamPublisher bookingStreamPublisher;
+    private final ParallelEnrichment parallelEnrichment;
+    private final BookingLifecycleService bookingLifecycleService;
+    private final WaitlistService waitlistService;
+    private final ResourceApprovalLockRepository resourceApprovalLockRepository;
+    private final Duration maxBookingDuration;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     public BookingService(BookingRepository bookingRepository,
                          ResourceServiceClient resourceServiceClient,
                          UserServiceClient userServiceClient,
-                         KafkaEventProducer kafkaEventProducer) {
+                         KafkaEventProducer kafkaEventProducer,
+                         UtilizationService utilizationService,
+                         ArchivedBookingRepository archivedBookingRepository,
+                         BookingStreamPublisher bookingStreamPublisher,
+                         ParallelEnrichment parallelEnrichment,
+                         BookingLifecycleService bookingLifecycleService,
+                         WaitlistService waitlistService,
+                         ResourceApprovalLockRepository resourceApprovalLockRepository,
+                         @Value("${booking.max-duration-hours:168}") long maxDurationHours) {
         this.bookingRepository = bookingRepository;
         this.resourceServiceClient = resourceServiceClient;
         this.userServiceClient = userServiceClient;
         this.kafkaEventProducer = kafkaEventProducer;
+        this.utilizationService = utilizationService;
+        this.archivedBookingRepository = archivedBookingRepository;
+        this.bookingStreamPublisher = bookingStreamPublisher;
+        this.parallelEnrichment = parallelEnrichment;
+        this.bookingLifecycleService = bookingLifecycleService;
+        this.waitlistService = waitlistService;
+        this.resourceApprovalLockRepository = resourceApprovalLockRepository;
+        this.maxBookingDuration = Duration.ofHours(maxDurationHours);
     }
 
     /** Placeholder/invalid email domains that must not be used for notifications (e.g. from API docs). */
@@ -61,7 +111,17 @@ public class BookingService {
     }
 
     public AvailabilityCheckResponseDTO checkAvailability(String resourceId, java.time.LocalDateTime startTime, java.time.LocalDateTime endTime) {
-        ResourceResponseDTO resource = resourceServiceClient.getResourceById(resourceId);
+        return checkAvailability(resourceServiceClient.getResourceById(resourceId), resourceId, startTime, endTime, true);
+    }
+
+    /**
+     * @param resource         the resource as fetched from resource-service, null if not found
+     * @param includeConflicts when the slot is taken, also list the overlapping booking windows
+     *                         (a second, start/end-only query); booking creation only needs yes/no
+     */
+    private AvailabilityCheckResponseDTO checkAvailability(ResourceResponseDTO resource, String resourceId,
+                                                           java.time.LocalDateTime startTime, java.time.LocalDateTime endTime,
+                                                           boolean includeConflicts) {
         if (resource == null) {
             return new AvailabilityCheckResponseDTO(false, resourceId, startTime, endTime, "Resource not found");
         }
@@ -70,9 +130,15 @@ public class BookingService {
             return new AvailabilityCheckResponseDTO(false, resourceId, startTime, endTime, "Resource is not available");
         }
 
-        List<Booking> conflictingBookings = bookingRepository.findConflictingBookings(resourceId, startTime, endTime);
-        if (!conflictingBookings.isEmpty()) {
-            return new AvailabilityCheckResponseDTO(false, resourceId, startTime, endTime, "Resource is already booked for this time slot");
+        if (bookingRepository.existsConflictingBooking(resourceId, startTime, endTime, maxBookingDuration)) {
+            List<AvailabilityCheckResponseDTO.TimeWindow> conflicts = includeConflicts
+                    ? bookingRepository.findConflictingWindows(resourceId, startTime.minus(maxBookingDuration),
+                                    startTime, endTime).stream()
+                            .map(w -> new AvailabilityCheckResponseDTO.TimeWindow(w.getStartTime(), w.getEndTime()))
+                            .toList()
+                    : null;
+            return new AvailabilityCheckResponseDTO(false, resourceId, startTime, endTime,
+                    "Resource is already booked for this time slot", conflicts);
         }
 
         return new AvailabilityCheckResponseDTO(true, resourceId, startTime, endTime, "Resource is available");
@@ -80,19 +146,26 @@ public class BookingService {
 
     @Transactional
     public Optional<BookingResponseDTO> createBooking(String userId, CreateBookingRequestDTO request) {
+        // The conflict check only looks back this far for overlapping bookings
+        if (Duration.between(request.getStartTime(), request.getEndTime()).compareTo(maxBookingDuration) > 0) {
+            throw new IllegalArgumentException("Bookings cannot be longer than " + maxBookingDuration.toHours() + " hours");
+        }
+        // Resource (for the availability check and the response) and user (for the notification) are
+        // independent. Without an answer from resource-service the request fails with 503/504, so it
+        // is not mistaken for an unavailable resource.
+        ParallelEnrichment.Pair<ResourceResponseDTO, UserProfileResponseDTO> lookups = parallelEnrichment.bothRequiringFirst(
+                () -> resourceServiceClient.lookupResource(request.getResourceId()),
+                () -> userServiceClient.getUserById(userId));
+        ResourceResponseDTO resource = lookups.first();
+
         // Check availability
-        AvailabilityCheckResponseDTO availability = checkAvailability(request.getResourceId(), request.getStartTime(), request.getEndTime());
+        AvailabilityCheckResponseDTO availability = checkAvailability(resource, request.getResourceId(),
+                request.getStartTime(), request.getEndTime(), false);
         if (!availability.isAvailable()) {
             logger.warn("Resource not available: {}", availability.getMessage());
             return Optional.empty();
         }
 
-        // Get resource details
-        ResourceResponseDTO resource = resourceServiceClient.getResourceById(request.getResourceId());
-        if (resource == null) {
-            return Optional.empty();
-        }
-
         // Create booking as PENDING (requires FACILITY_MANAGER approval)
         Booking booking = Booking.builder()
                 .id(UUID.randomUUID().toString())
@@ -105,10 +178,12 @@ public class BookingService {
                 .build();
 
         booking = bookingRepository.save(booking);
+        utilizationService.recordTransition(booking, null, booking.getStatus());
+        bookingStreamPublisher.publish(booking, null, booking.getStatus());
 
         // Do NOT update resource status until approved
-        // Call user-service to retrieve user info required for mail, then publish notification only if we have valid recipient
-        UserProfileResponseDTO user = userServiceClient.getUserById(userId);
+        // Publish notification only if user-service gave us a valid recipient
+        UserProfileResponseDTO user = lookups.second();
         if (user != null && StringUtils.isNotBlank(user.getEmail()) && !isPlaceholderEmail(user.getEmail().trim())) {
             String recipientEmail = user.getEmail().trim();
             String contactName = StringUtils.defaultIfBlank(user.getName(), user.getEmail());
@@ -121,37 +196,116 @@ public class BookingService {
         return Optional.of(mapToResponseDTO(booking, resource.getName()));
     }
 
+    /**
+     * Looks in the hot table first, then in the archive; a lookup by id is cheap in both.
+     */
     public Optional<BookingResponseDTO> getBookingById(String id) {
         return bookingRepository.findById(id)
+                .or(() -> archivedBookingRepository.findById(id).map(ArchivedBooking::toBooking))
                 .map(booking -> {
                     ResourceResponseDTO resource = resourceServiceClient.getResourceById(booking.getResourceId());
                     return mapToResponseDTO(booking, resource != null ? StringUtils.defaultString(resource.getName(), "Unknown") : "Unknown");
                 });
     }
 
-    public PageResponseDTO<BookingResponseDTO> getBookingsByUser(String userId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Booking> bookingPage = bookingRepository.findByUserId(userId, pageable);
-        return mapToPageResponseDTO(bookingPage);
+    public Mono<PageResponseDTO<BookingResponseDTO>> getBookingsByUser(String userId, int page, int size,
+                                                                 String cursor, Boolean includeTotal,
+                                                                 boolean includeArchived) {
+        BiFunction<PageCursor, Pageable, List<Booking>> hot = (after, pageable) -> bookingRepository.findPageByUserId(userId,
+                after != null ? after.createdAt() : null, after != null ? after.id() : null, pageable);
+        if (!includeArchived) {
+            return findPage(hot, () -> bookingRepository.countByUserId(userId), page, size, cursor, includeTotal);
+        }
+        return findPage(
+                withArchive(hot, (after, pageable) -> archivedBookingRepository.findPageByUserId(userId,
+                        after != null ? after.createdAt() : null, after != null ? after.id() : null, pageable)),
+                () -> bookingRepository.countByUserId(userId) + archivedBookingRepository.countByUserId(userId),
+                page, size, cursor, includeTotal);
     }
 
-    public PageResponseDTO<BookingResponseDTO> getBookingsByResource(String resourceId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Booking> bookingPage = bookingRepository.findByResourceId(resourceId, pageable);
-        return mapToPageResponseDTO(bookingPage);
+    public Mono<PageResponseDTO<BookingResponseDTO>> getBookingsByResource(String resourceId, int page, int size,
+                                                                     String cursor, Boolean includeTotal,
+                                                                     boolean includeArchived) {
+        BiFunction<PageCursor, Pageable, List<Booking>> hot = (after, pageable) -> bookingRepository.findPageByResourceId(resourceId,
+                after != null ? after.createdAt() : null, after != null ? after.id() : null, pageable);
+        if (!includeArchived) {
+            return findPage(hot, () -> bookingRepository.countByResourceId(resourceId), page, size, cursor, includeTotal);
+        }
+        return findPage(
+                withArchive(hot, (after, pageable) -> archivedBookingRepository.findPageByResourceId(resourceId,
+                        after != null ? after.createdAt() : null, after != null ? after.id() : null, pageable)),
+                () -> bookingRepository.countByResourceId(resourceId) + archivedBookingRepository.countByResourceId(resourceId),
+                page, size, cursor, includeTotal);
     }
 
-    @Transactional
+    /**
+     * Page query over hot and archived bookings together. Both sides are keyset-ordered by
+     * (createdAt DESC, id DESC), so the first offset + size rows of each, merged, contain the
+     * requested page; the cursor applies to both tables unchanged.
+     */
+    private static BiFunction<PageCursor, Pageable, List<Booking>> withArchive(
+            BiFunction<PageCursor, Pageable, List<Booking>> hot,
+            BiFunction<PageCursor, Pageable, List<ArchivedBooking>> archived) {
+        return (after, pageable) -> {
+            int offset = (int) pageable.getOffset();
+            Pageable head = PageRequest.of(0, offset + pageable.getPageSize());
+            List<Booking> merged = new ArrayList<>(hot.apply(after, head));
+            archived.apply(after, head).forEach(b -> merged.add(b.toBooking()));
+            merged.sort(Comparator.comparing(Booking::getCreatedAt).thenComparing(Booking::getId).reversed());
+            return merged.subList(Math.min(offset, merged.size()),
+                    Math.min(offset + pageable.getPageSize(), merged.size()));
+        };
+    }
+
+    /**
+     * Loads the page on the bounded-elastic scheduler (JPA blocks) and then labels it with
+     * resource names fetched without blocking, one batched lookup for the distinct resources on
+     * the page instead of a call per row. The servlet thread is released while both run.
+     */
+    private Mono<PageResponseDTO<BookingResponseDTO>> findPage(BiFunction<PageCursor, Pageable, List<Booking>> query,
+                                                               LongSupplier count,
+                                                               int page, int size, String cursor, Boolean includeTotal) {
+        KeysetPages.validate(page, size);
+        return withResourceNames(Mono.fromCallable(() -> KeysetPages.load(
+                        (after, pageNumber, limit) -> query.apply(after, PageRequest.of(pageNumber, limit)),
+                        count, BookingService::position, page, size, cursor, includeTotal))
+                .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    private Mono<PageResponseDTO<BookingResponseDTO>> withResourceNames(Mono<PageResponseDTO<Booking>> page) {
+        return page.flatMap(rows -> resourceServiceClient.getResourceNames(
+                        rows.getContent().stream().map(Booking::getResourceId).collect(Collectors.toSet()))
+                .map(names -> rows.map(booking -> mapToResponseDTO(booking,
+                        names.getOrDefault(booking.getResourceId(), "Unknown")))));
+    }
+
+    private static PageCursor position(Booking booking) {
+        return new PageCursor(booking.getCreatedAt(), booking.getId());
+    }
+
+    /**
+     * Read committed: a confirmation re-checks conflicts after taking the resource's approval
+     * lock and must see what approvals that held the lock before it committed.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Optional<BookingResponseDTO> updateBookingStatus(String id, UpdateBookingStatusRequestDTO request) {
         return bookingRepository.findById(id)
                 .map(booking -> {
-                    Booking.BookingStatus oldStatus = booking.getStatus();
-                    booking.setStatus(request.getStatus());
-                    booking = bookingRepository.save(booking);
+                    Booking.BookingStatus oldStatus = transition(booking, request.getStatus());
+
+                    boolean cancelled = request.getStatus() == Booking.BookingStatus.CANCELLED;
+                    if (cancelled) {
+                        releaseSlot(booking, oldStatus);
+                    }
+                    String bookingUserId = booking.getUserId();
+                    String resourceId = booking.getResourceId();
+                    ParallelEnrichment.Pair<ResourceResponseDTO, UserProfileResponseDTO> lookups = parallelEnrichment.both(
+                            () -> resourceServiceClient.getResourceById(resourceId),
+                            () -> cancelled ? userServiceClient.getUserById(bookingUserId) : null);
 
                     // Notify on cancellation (resource status kept AVAILABLE for now)
-                    if (request.getStatus() == Booking.BookingStatus.CANCELLED && oldStatus != Booking.BookingStatus.CANCELLED) {
-                        UserProfileResponseDTO cancelUser = userServiceClient.getUserById(booking.getUserId());
+                    if (cancelled) {
+                        UserProfileResponseDTO cancelUser = lookups.second();
                         if (cancelUser != null && StringUtils.isNotBlank(cancelUser.getEmail()) && !isPlaceholderEmail(cancelUser.getEmail().trim())) {
                             String email = cancelUser.getEmail().trim();
                             String name = StringUtils.defaultIfBlank(cancelUser.getName(), cancelUser.getEmail());
@@ -161,25 +315,62 @@ public class BookingService {
                         }
                     }
 
-                    ResourceResponseDTO resource = resourceServiceClient.getResourceById(booking.getResourceId());
+                    ResourceResponseDTO resource = lookups.first();
                     return mapToResponseDTO(booking, resource != null ? StringUtils.defaultString(resource.getName(), "Unknown") : "Unknown");
                 });
     }
 
+    /**
+     * Move the booking from the status it was read with to {@code to}. The update is
+     * conditional on that status, so a concurrent change (another request, or the lifecycle
+     * worker expiring or completing it) wins and this call fails instead of overwriting it; the
+     * utilization delta and the stream event are only applied for the transition actually made.
+     * A confirmation first takes the resource's approval lock and re-checks for an overlapping
+     * confirmed booking.
+     *
+     * @return the status the booking had before
+     * @throws BookingStatusConflictException if the transition is not allowed, the status changed since the read,
+     *                                        or a confirmation would overlap a confirmed booking
+     */
+    private Booking.BookingStatus transition(Booking booking, Booking.BookingStatus to) {
+        Booking.BookingStatus from = booking.getStatus();
+        if (from == null || !from.canTransitionTo(to)) {
+            throw new BookingStatusConflictException("Booking is " + from + " and cannot be changed to " + to);
+        }
+        if (to == Booking.BookingStatus.CONFIRMED) {
+            lockResources(List.of(booking.getResourceId()));
+            if (!bookingRepository.findCommittedWindows(List.of(booking.getResourceId()),
+                    booking.getStartTime().minus(maxBookingDuration), booking.getStartTime(), booking.getEndTime()).isEmpty()) {
+                throw new BookingStatusConflictException("Booking conflicts with a confirmed booking");
+            }
+        }
+        if (bookingLifecycleService.transitionBatch(List.of(booking), from, to).isEmpty()) {
+            throw new BookingStatusConflictException("Booking status was changed concurrently; reload it and retry");
+        }
+        booking.setStatus(to);
+        bookingStreamPublisher.publish(booking, from, to);
+        return from;
+    }
+
     /**
      * Approve a pending booking (FACILITY_MANAGER only - enforced at API gateway).
-     * Sets booking to CONFIRMED. Resource status is left as AVAILABLE for now.
+     * Sets booking to CONFIRMED. Resource status is left as AVAILABLE for now. Read committed,
+     * see {@link #updateBookingStatus}.
      */
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Optional<BookingResponseDTO> approveBooking(String bookingId) {
         return bookingRepository.findById(bookingId)
                 .filter(booking -> booking.getStatus() == Booking.BookingStatus.PENDING)
                 .map(booking -> {
-                    booking.setStatus(Booking.BookingStatus.CONFIRMED);
-                    booking = bookingRepository.save(booking);
-
-                    String resName = getResourceName(booking.getResourceId());
-                    UserProfileResponseDTO confirmUser = userServiceClient.getUserById(booking.getUserId());
+                    transition(booking, Booking.BookingStatus.CONFIRMED);
+
+                    String resourceId = booking.getResourceId();
+                    String bookingUserId = booking.getUserId();
+                    ParallelEnrichment.Pair<ResourceResponseDTO, UserProfileResponseDTO> lookups = parallelEnrichment.both(
+                            () -> resourceServiceClient.getResourceById(resourceId),
+                            () -> userServiceClient.getUserById(bookingUserId));
+                    String resName = lookups.first() != null ? StringUtils.defaultString(lookups.first().getName(), "Unknown") : "Unknown";
+                    UserProfileResponseDTO confirmUser = lookups.second();
                     if (confirmUser != null && StringUtils.isNotBlank(confirmUser.getEmail()) && !isPlaceholderEmail(confirmUser.getEmail().trim())) {
                         String email = confirmUser.getEmail().trim();
                         String name = StringUtils.defaultIfBlank(confirmUser.getName(), confirmUser.getEmail());
@@ -191,9 +382,246 @@ public class BookingService {
                 });
     }
 
-    private String getResourceName(String resourceId) {
-        ResourceResponseDTO resource = resourceServiceClient.getResourceById(resourceId);
-        return resource != null ? StringUtils.defaultString(resource.getName(), "Unknown") : "Unknown";
+    /**
+     * Pending-approval queue, oldest request first, keyset-paginated by (createdAt, id).
+     * {@code ownerId} limits it to resources of that owner (looked up in resource-service);
+     * {@code from}/{@code to} to bookings starting in that window. No total is counted.
+     */
+    public Mono<PageResponseDTO<BookingResponseDTO>> getPendingQueue(String resourceId, String ownerId,
+                                                                     LocalDateTime from, LocalDateTime to,
+                                                                     int size, String cursor) {
+        PageCursor after = PageCursor.decode(cursor);
+        return withResourceNames(Mono.fromCallable(() -> {
+            List<String> resourceIds = null;
+            if (StringUtils.isNotBlank(ownerId)) {
+                resourceIds = new ArrayList<>(resourceServiceClient.getResourceIdsByOwner(ownerId));
+                if (StringUtils.isNotBlank(resourceId)) {
+                    resourceIds.retainAll(List.of(resourceId));
+                }
+                if (resourceIds.isEmpty()) {
+                    return new PageResponseDTO<Booking>(List.of(), 0, size, null, null, true, after == null, null);
+                }
+            } else if (StringUtils.isNotBlank(resourceId)) {
+                resourceIds = List.of(resourceId);
+            }
+            List<Booking> rows = bookingRepository.findPendingQueue(resourceIds == null,
+                    resourceIds != null ? resourceIds : List.of(""), from, to,
+                    after != null ? after.createdAt() : null, after != null ? after.id() : null,
+                    PageRequest.of(0, size + 1));
+            return KeysetPages.fromExtraRow(rows, size, after, BookingService::position);
+        }).subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    /**
+     * Approve or reject many pending bookings in one transaction. Approvals are re-checked
+     * against confirmed bookings (one query for the whole batch) and against each other, oldest
+     * request first; a booking that would overlap is skipped, not approved. The re-check runs
+     * under the approval locks of the affected resources, read committed, so concurrent
+     * approvals of the same resources cannot both pass it. Each affected user gets one
+     * notification listing all of their decided bookings, sent after commit.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public BulkBookingDecisionResultDTO decideBookings(List<String> bookingIds,
+                                                       BulkBookingDecisionRequestDTO.Decision decision,
+                                                       String reason) {
+        Map<String, Booking> found = bookingRepository.findAllById(new LinkedHashSet<>(bookingIds)).stream()
+                .collect(Collectors.toMap(Booking::getId, b -> b));
+        List<BulkBookingDecisionResultDTO.Skipped> skipped = new ArrayList<>();
+        List<Booking> candidates = new ArrayList<>();
+        for (String id : new LinkedHashSet<>(bookingIds)) {
+            Booking booking = found.get(id);
+            if (booking == null) {
+                skipped.add(new BulkBookingDecisionResultDTO.Skipped(id, "Booking not found"));
+            } else if (booking.getStatus() != Booking.BookingStatus.PENDING) {
+                skipped.add(new BulkBookingDecisionResultDTO.Skipped(id, "Booking is " + booking.getStatus() + ", not pending approval"));
+            } else {
+                candidates.add(booking);
+            }
+        }
+        candidates.sort(Comparator.comparing(Booking::getCreatedAt).thenComparing(Booking::getId));
+
+        Booking.BookingStatus to = decision == BulkBookingDecisionRequestDTO.Decision.APPROVE
+                ? Booking.BookingStatus.CONFIRMED : Booking.BookingStatus.CANCELLED;
+        if (to == Booking.BookingStatus.CONFIRMED) {
+            candidates = withoutConflicts(candidates, skipped);
+        }
+        List<Booking> done = bookingLifecycleService.transitionBatch(candidates, Booking.BookingStatus.PENDING, to);
+        Set<String> doneIds = done.stream().map(Booking::getId).collect(Collectors.toSet());
+        candidates.stream()
+                .filter(b -> !doneIds.contains(b.getId()))
+                .forEach(b -> skipped.add(new BulkBookingDecisionResultDTO.Skipped(b.getId(), "Booking is no longer pending approval")));
+        done.forEach(b -> bookingStreamPublisher.publish(b, Booking.BookingStatus.PENDING, to));
+        if (to == Booking.BookingStatus.CANCELLED) {
+            done.forEach(b -> releaseSlot(b, Booking.BookingStatus.PENDING));
+        }
+
+        afterCommit(() -> sendDecisionNotifications(done, decision, reason));
+        logger.info("Bulk {}: {} processed, {} skipped", decision, done.size(), skipped.size());
+        return new BulkBookingDecisionResultDTO(decision, done.stream().map(Booking::getId).toList(), skipped);
+    }
+
+    /**
+     * Candidates (oldest first) that overlap neither a confirmed booking nor an earlier
+     * candidate of the same resource; the rest are added to {@code skipped}.
+     */
+    private List<Booking> withoutConflicts(List<Booking> candidates, List<BulkBookingDecisionResultDTO.Skipped> skipped) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+        List<String> resourceIds = candidates.stream().map(Booking::getResourceId).distinct().toList();
+        lockResources(resourceIds);
+        LocalDateTime from = candidates.stream().map(Booking::getStartTime).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDateTime to = candidates.stream().map(Booking::getEndTime).max(Comparator.naturalOrder()).orElseThrow();
+        Map<String, List<LocalDateTime[]>> taken = new HashMap<>();
+        for (ResourceBookingWindow window : bookingRepository.findCommittedWindows(resourceIds,
+                from.minus(maxBookingDuration), from, to)) {
+            taken.computeIfAbsent(window.getResourceId(), k -> new ArrayList<>())
+                    .add(new LocalDateTime[]{window.getStartTime(), window.getEndTime()});
+        }
+        List<Booking> accepted = new ArrayList<>();
+        for (Booking booking : candidates) {
+            List<LocalDateTime[]> windows = taken.computeIfAbsent(booking.getResourceId(), k -> new ArrayList<>());
+            // Same overlap test as the availability check: touching slots conflict
+            boolean conflict = windows.stream().anyMatch(w ->
+                    !w[0].isAfter(booking.getEndTime()) && !w[1].isBefore(booking.getStartTime()));
+            if (conflict) {
+                skipped.add(new BulkBookingDecisionResultDTO.Skipped(booking.getId(), "Conflicts with a confirmed booking"));
+            } else {
+                windows.add(new LocalDateTime[]{booking.getStartTime(), booking.getEndTime()});
+                accepted.add(booking);
+            }
+        }
+        return accepted;
+    }
+
+    /**
+     * Take the approval locks of the resources, in id order so that concurrent approvals of
+     * overlapping sets cannot deadlock. Held until the transaction ends.
+     */
+    private void lockResources(List<String> resourceIds) {
+        resourceIds.stream().sorted().forEach(resourceApprovalLockRepository::lock);
+    }
+
+    /**
+     * One BOOKINGS_DECIDED notification per user, listing all of their bookings in the batch.
+     */
+    private void sendDecisionNotifications(List<Booking> bookings, BulkBookingDecisionRequestDTO.Decision decision,
+                                           String reason) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        Map<String, List<Booking>> byUser = bookings.stream()
+                .collect(Collectors.groupingBy(Booking::getUserId, LinkedHashMap::new, Collectors.toList()));
+        List<String> userIds = new ArrayList<>(byUser.keySet());
+        List<UserProfileResponseDTO> users = parallelEnrichment.all(userIds.stream()
+                .<Supplier<UserProfileResponseDTO>>map(id -> () -> userServiceClient.getUserById(id))
+                .toList());
+        Map<String, String> names = resourceServiceClient.getResourceNames(
+                        bookings.stream().map(Booking::getResourceId).collect(Collectors.toSet()))
+                .blockOptional()
+                .orElse(Map.of());
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+        for (int i = 0; i < userIds.size(); i++) {
+            String userId = userIds.get(i);
+            UserProfileResponseDTO user = users.get(i);
+            if (user == null || StringUtils.isBlank(user.getEmail()) || isPlaceholderEmail(user.getEmail().trim())) {
+                logger.warn("No valid email for user {}, skipping bookings decided notification", userId);
+                continue;
+            }
+            String lines = byUser.get(userId).stream()
+                    .map(b -> names.getOrDefault(b.getResourceId(), "Resource") + ": "
+                            + b.getStartTime().format(format) + " - " + b.getEndTime().format(format))
+                    .collect(Collectors.joining("\n"));
+            Map<String, String> metadata = new HashMap<>();
+            metadata.put("userId", userId);
+            metadata.put("decision", decision == BulkBookingDecisionRequestDTO.Decision.APPROVE ? "APPROVED" : "REJECTED");
+            metadata.put("count", Integer.toString(byUser.get(userId).size()));
+            metadata.put("bookings", lines);
+            if (StringUtils.isNotBlank(reason)) {
+                metadata.put("reason", reason);
+            }
+            String email = user.getEmail().trim();
+            String name = StringUtils.defaultIfBlank(StringUtils.defaultIfBlank(user.getName(), email), "User");
+            sendNotification("BOOKINGS_DECIDED", userId, metadata, email, name);
+        }
+    }
+
+    private void sendNotification(String template, String userId, Map<String, String> metadata,
+                                  String recipientEmail, String contactName) {
+        try {
+            NotificationData data = new NotificationData(template, null, null);
+            data.setMetadata(metadata);
+            NotificationCommunicationParams params = new NotificationCommunicationParams(
+                    NotificationChannel.EMAIL, List.of(recipientEmail), contactName);
+            KafkaEvent event = new KafkaEvent(
+                    UUID.randomUUID().toString(),
+                    "CREATE_NOTIFICATION",
+                    objectMapper.writeValueAsString(new Notification(data, params))
+            );
+            event.setUserId(userId);
+            kafkaEventProducer.sendEvent("crcs-notification", event);
+            logger.info("Produced {} notification for userId={}, recipient={}", template, userId, recipientEmail);
+        } catch (Exception e) {
+            logger.error("Error producing {} notification", template, e);
+        }
+    }
+
+    /**
+     * A cancelled booking that held its slot (PENDING or CONFIRMED) hands it to the waitlist
+     * in the same transaction; the promoted users are told once it commits.
+     */
+    private void releaseSlot(Booking booking, Booking.BookingStatus oldStatus) {
+        if (oldStatus != Booking.BookingStatus.PENDING && oldStatus != Booking.BookingStatus.CONFIRMED) {
+            return;
+        }
+        List<Booking> promoted = waitlistService.promoteInto(booking);
+        if (!promoted.isEmpty()) {
+            afterCommit(() -> sendWaitlistPromotedNotifications(promoted));
+        }
+    }
+
+    /**
+     * RESOURCE_AVAILABLE to each user whose waitlisted slot became a booking request.
+     */
+    private void sendWaitlistPromotedNotifications(List<Booking> promoted) {
+        List<UserProfileResponseDTO> users = parallelEnrichment.all(promoted.stream()
+                .<Supplier<UserProfileResponseDTO>>map(b -> () -> userServiceClient.getUserById(b.getUserId()))
+                .toList());
+        Map<String, String> names = resourceServiceClient.getResourceNames(
+                        promoted.stream().map(Booking::getResourceId).collect(Collectors.toSet()))
+                .blockOptional()
+                .orElse(Map.of());
+        DateTimeFormatter format = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+        for (int i = 0; i < promoted.size(); i++) {
+            Booking booking = promoted.get(i);
+            UserProfileResponseDTO user = users.get(i);
+            if (user == null || StringUtils.isBlank(user.getEmail()) || isPlaceholderEmail(user.getEmail().trim())) {
+                logger.warn("No valid email for user {}, skipping resource available notification", booking.getUserId());
+                continue;
+            }
+            Map<String, String> metadata = new HashMap<>();
+            metadata.put("userId", booking.getUserId());
+            metadata.put("resourceName", names.getOrDefault(booking.getResourceId(), "Resource"));
+            metadata.put("bookingId", booking.getId());
+            metadata.put("startTime", booking.getStartTime().format(format));
+            metadata.put("endTime", booking.getEndTime().format(format));
+            String email = user.getEmail().trim();
+            String name = StringUtils.defaultIfBlank(StringUtils.defaultIfBlank(user.getName(), email), "User");
+            sendNotification("RESOURCE_AVAILABLE", booking.getUserId(), metadata, email, name);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 
     @Transactional
@@ -201,8 +629,8 @@ public class BookingService {
         return bookingRepository.findById(id)
                 .filter(booking -> booking.getUserId().equals(userId))
                 .map(booking -> {
-                    booking.setStatus(Booking.BookingStatus.CANCELLED);
-                    bookingRepository.save(booking);
+                    Booking.BookingStatus oldStatus = transition(booking, Booking.BookingStatus.CANCELLED);
+                    releaseSlot(booking, oldStatus);
                     UserProfileResponseDTO cancelUser = userServiceClient.getUserById(userId);
                     if (cancelUser != null && StringUtils.isNotBlank(cancelUser.getEmail()) && !isPlaceholderEmail(cancelUser.getEmail().trim())) {
                         String email = cancelUser.getEmail().trim();
@@ -334,23 +762,4 @@ public class BookingService {
                 .updatedAt(booking.getUpdatedAt())
                 .build();
     }
-
-    private PageResponseDTO<BookingResponseDTO> mapToPageResponseDTO(Page<Booking> bookingPage) {
-        List<BookingResponseDTO> content = bookingPage.getContent()
-                .stream()
-                .map(booking -> {
-                    ResourceResponseDTO resource = resourceServiceClient.getResourceById(booking.getResourceId());
-                    return mapToResponseDTO(booking, resource != null ? StringUtils.defaultString(resource.getName(), "Unknown") : "Unknown");
-                })
-                .collect(Collectors.toList());
-
-        return new PageResponseDTO<>(
-                content,
-                bookingPage.getNumber(),
-                bookingPage.getSize(),
-                bookingPage.getTotalElements(),
-                bookingPage.getTotalPages(),
-                bookingPage.isLast()
-        );
-    }
 }
@@ -0,0 +1,130 @@
+package com.crcs.bookingservice.service;
+
+import com.crcs.bookingservice.exception.DownstreamUnavailableException;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs independent downstream lookups (resource-service, user-service) concurrently on virtual
+ * threads, so a request waits for the slowest call instead of the sum of them. Both calls share
+ * the request's {@link RequestDeadline}; a call that has not answered by then is cancelled and
+ * treated like a failed lookup (null), which the callers already handle, unless the caller
+ * cannot do without it ({@link #bothRequiringFirst}). Cancelling does not interrupt a blocked
+ * socket read; the HTTP client's timeouts, cut to the same deadline, end those. The caller's trace
+ * context is carried onto the virtual threads, so the calls show up under the request's span.
+ */
+@Component
+public class ParallelEnrichment {
+    private static final Logger logger = LoggerFactory.getLogger(ParallelEnrichment.class);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ContextSnapshotFactory snapshots = ContextSnapshotFactory.builder().build();
+    private final long defaultTimeoutMs;
+
+    public ParallelEnrichment(@Value("${booking.enrichment.timeout-ms:3000}") long defaultTimeoutMs) {
+        this.defaultTimeoutMs = defaultTimeoutMs;
+    }
+
+    public record Pair<A, B>(A first, B second) {
+    }
+
+    public <A, B> Pair<A, B> both(Supplier<A> first, Supplier<B> second) {
+        long deadline = deadline();
+        Future<A> a = fork(first, deadline);
+        Future<B> b = fork(second, deadline);
+        return new Pair<>(join(a, deadline), join(b, deadline));
+    }
+
+    /**
+     * Like {@link #both}, but the request cannot be answered without the first result: if that
+     * call fails or misses the deadline, {@link DownstreamUnavailableException} is thrown (503 /
+     * 504) instead of null being returned. A null result from the call itself is passed on.
+     */
+    public <A, B> Pair<A, B> bothRequiringFirst(Supplier<A> first, Supplier<B> second) {
+        long deadline = deadline();
+        Future<A> a = fork(first, deadline);
+        Future<B> b = fork(second, deadline);
+        A required;
+        try {
+            required = require(a, deadline);
+        } catch (RuntimeException e) {
+            b.cancel(true);
+            throw e;
+        }
+        return new Pair<>(required, join(b, deadline));
+    }
+
+    /**
+     * Results of all calls, in order; null for each call that failed or missed the deadline.
+     */
+    public <T> List<T> all(List<Supplier<T>> calls) {
+        long deadline = deadline();
+        List<Future<T>> futures = calls.stream().map(call -> fork(call, deadline)).toList();
+        List<T> results = new ArrayList<>(futures.size());
+        futures.forEach(future -> results.add(join(future, deadline)));
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private long deadline() {
+        Long deadline = RequestDeadline.current();
+        return deadline != null ? deadline : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(defaultTimeoutMs);
+    }
+
+    private <T> Future<T> fork(Supplier<T> call, long deadline) {
+        return executor.submit(snapshots.captureAll().wrap(() -> RequestDeadline.callWith(deadline, call::get)));
+    }
+
+    private static <T> T require(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new DownstreamUnavailableException("Downstream service did not answer in time", true);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof DownstreamUnavailableException unavailable) {
+                throw unavailable;
+            }
+            throw new DownstreamUnavailableException("Downstream call failed", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new DownstreamUnavailableException("Interrupted waiting for a downstream call", e);
+        }
+    }
+
+    private static <T> T join(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            logger.warn("Downstream call did not finish before the request deadline");
+            return null;
+        } catch (ExecutionException e) {
+            logger.error("Downstream call failed", e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.crcs.bookingservice.service;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Deadline of the request being handled on the current thread, set by
+ * {@link com.crcs.bookingservice.config.RequestDeadlineFilter} from the {@value #HEADER}
+ * header (or a default budget). Outgoing calls carry the remaining budget in the same header,
+ * and calls forked by {@link ParallelEnrichment} inherit the deadline.
+ */
+public final class RequestDeadline {
+    /** Remaining time budget in milliseconds, on incoming and outgoing requests. */
+    public static final String HEADER = "X-Request-Timeout-Ms";
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {
+    }
+
+    public static void start(long budgetMillis) {
+        DEADLINE_NANOS.set(System.nanoTime() + budgetMillis * 1_000_000L);
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /** Deadline as a {@link System#nanoTime()} value, or null outside a request. */
+    public static Long current() {
+        return DEADLINE_NANOS.get();
+    }
+
+    /**
+     * Milliseconds left before the deadline (at least 0), or -1 when there is none.
+     */
+    public static long remainingMillis() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return -1;
+        }
+        return Math.max(0, (deadline - System.nanoTime()) / 1_000_000L);
+    }
+
+    /**
+     * Run {@code task} on this thread under {@code deadlineNanos} (null for none), restoring
+     * the thread's own deadline afterwards.
+     */
+    static <T> T callWith(Long deadlineNanos, Callable<T> task) throws Exception {
+        Long previous = DEADLINE_NANOS.get();
+        if (deadlineNanos != null) {
+            DEADLINE_NANOS.set(deadlineNanos);
+        } else {
+            DEADLINE_NANOS.remove();
+        }
+        try {
+            return task.call();
+        } finally {
+            if (previous != null) {
+                DEADLINE_NANOS.set(previous);
+            } else {
+                DEADLINE_NANOS.remove();
+            }
+        }
+    }
+}
@@ -1,23 +1,47 @@
 package com.crcs.bookingservice.service;
 
 import com.crcs.bookingservice.dto.response.ResourceResponseDTO;
+import com.crcs.bookingservice.exception.DownstreamUnavailableException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 @Service
 public class ResourceServiceClient {
     private static final Logger logger = LoggerFactory.getLogger(ResourceServiceClient.class);
+    /** Largest id list resource-service accepts on GET /resources/batch. */
+    static final int BATCH_SIZE = 100;
+    private static final int BATCH_CONCURRENCY = 4;
+
     private final RestTemplate restTemplate;
+    private final WebClient webClient;
     private final String resourceServiceUrl;
+    private final Duration batchTimeout;
 
-    public ResourceServiceClient(RestTemplate restTemplate,
-                                @Value("${resource.service.url:http://localhost:6003}") String resourceServiceUrl) {
+    public ResourceServiceClient(RestTemplate restTemplate, WebClient.Builder webClientBuilder,
+                                @Value("${resource.service.url:http://localhost:6003}") String resourceServiceUrl,
+                                @Value("${resource.service.batch-timeout-ms:2000}") long batchTimeoutMs) {
         this.restTemplate = restTemplate;
+        this.webClient = webClientBuilder.baseUrl(resourceServiceUrl).build();
         this.resourceServiceUrl = resourceServiceUrl;
+        this.batchTimeout = Duration.ofMillis(batchTimeoutMs);
     }
 
     public ResourceResponseDTO getResourceById(String resourceId) {
@@ -35,6 +59,42 @@ public class ResourceServiceClient {
         }
     }
 
+    /**
+     * Like {@link #getResourceById}, but tells "does not exist" (null) apart from "could not be
+     * asked": a connection failure, timeout or 5xx throws {@link DownstreamUnavailableException},
+     * so callers that need the resource can fail with a retryable error instead of a 400.
+     */
+    public ResourceResponseDTO lookupResource(String resourceId) {
+        try {
+            return restTemplate.getForObject(resourceServiceUrl + "/resources/" + resourceId, ResourceResponseDTO.class);
+        } catch (HttpClientErrorException.NotFound e) {
+            logger.warn("Resource not found: {}", resourceId);
+            return null;
+        } catch (ResourceAccessException e) {
+            throw new DownstreamUnavailableException("resource-service did not answer",
+                    e.getCause() instanceof InterruptedIOException);
+        } catch (RestClientException e) {
+            throw new DownstreamUnavailableException("resource-service lookup failed", e);
+        }
+    }
+
+    /**
+     * Ids of the resources owned by {@code ownerId}; empty if there are none or the lookup fails.
+     */
+    public List<String> getResourceIdsByOwner(String ownerId) {
+        try {
+            String url = resourceServiceUrl + "/resources/owner/" + ownerId;
+            ResponseEntity<ResourceResponseDTO[]> response = restTemplate.getForEntity(url, ResourceResponseDTO[].class);
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                return Arrays.stream(response.getBody()).map(ResourceResponseDTO::getId).toList();
+            }
+            return List.of();
+        } catch (Exception e) {
+            logger.error("Error fetching resources of owner: {}", ownerId, e);
+            return List.of();
+        }
+    }
+
     public boolean updateResourceStatus(String resourceId, String status) {
         try {
             String url = resourceServiceUrl + "/resources/" + resourceId + "/status?status=" + status;
@@ -45,4 +105,32 @@ public class ResourceServiceClient {
             return false;
         }
     }
+
+    /**
+     * Names of the given resources, without blocking: ids are looked up in batches of
+     * {@link #BATCH_SIZE} via GET /resources/batch, several batches at a time. A batch that
+     * fails or times out is left out of the map rather than failing the whole lookup.
+     */
+    public Mono<Map<String, String>> getResourceNames(Collection<String> resourceIds) {
+        List<String> ids = new ArrayList<>(resourceIds);
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+            batches.add(ids.subList(i, Math.min(i + BATCH_SIZE, ids.size())));
+        }
+        return Flux.fromIterable(batches)
+                .flatMap(batch -> webClient.get()
+                        .uri(uri -> uri.path("/resources/batch").queryParam("ids", String.join(",", batch)).build())
+                        .retrieve()
+                        .bodyToFlux(ResourceResponseDTO.class)
+                        .timeout(batchTimeout)
+                        .onErrorResume(e -> {
+                            logger.error("Error fetching resources {}: {}", batch, e.toString());
+                            return Flux.empty();
+                        }), BATCH_CONCURRENCY)
+                .filter(resource -> resource.getId() != null && resource.getName() != null)
+                .collectMap(ResourceResponseDTO::getId, ResourceResponseDTO::getName);
+    }
 }
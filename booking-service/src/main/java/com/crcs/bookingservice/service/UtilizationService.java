@@ -0,0 +1,230 @@
+package com.crcs.bookingservice.service;
+
+import com.crcs.bookingservice.dto.response.UtilizationReportDTO;
+import com.crcs.bookingservice.model.ArchivedBooking;
+import com.crcs.bookingservice.model.Booking;
+import com.crcs.bookingservice.model.UtilizationBucket;
+import com.crcs.bookingservice.repository.ArchivedBookingRepository;
+import com.crcs.bookingservice.repository.BookingRepository;
+import com.crcs.bookingservice.repository.UtilizationBucketRepository;
+import com.crcs.bookingservice.repository.UtilizationCounterRepository.Delta;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Incrementally maintained resource utilization. Every booking status transition adds the
+ * difference between the booking's old and new contribution to its hourly buckets, in the
+ * same transaction as the status change, so the counters always agree with the bookings
+ * table. Reports roll the hourly buckets up to days or ISO weeks.
+ */
+@Service
+public class UtilizationService {
+    private static final Logger logger = LoggerFactory.getLogger(UtilizationService.class);
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    static final long MAX_REPORT_DAYS = 366;
+
+    public enum Granularity {
+        HOUR, DAY, WEEK;
+
+        public static Granularity fromString(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid granularity '" + value + "'. Use hour, day or week");
+            }
+        }
+
+        LocalDateTime truncate(LocalDateTime time) {
+            return switch (this) {
+                case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+                case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+                case WEEK -> time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            };
+        }
+
+        long seconds() {
+            return switch (this) {
+                case HOUR -> 3600;
+                case DAY -> 86_400;
+                case WEEK -> 604_800;
+            };
+        }
+    }
+
+    private final UtilizationBucketRepository utilizationBucketRepository;
+    private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+
+    public UtilizationService(UtilizationBucketRepository utilizationBucketRepository,
+                              BookingRepository bookingRepository,
+                              ArchivedBookingRepository archivedBookingRepository) {
+        this.utilizationBucketRepository = utilizationBucketRepository;
+        this.bookingRepository = bookingRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
+    }
+
+    /**
+     * Record a booking moving from {@code oldStatus} (null for a new booking) to
+     * {@code newStatus}. Must run inside the transaction that saves the booking.
+     */
+    public void recordTransition(Booking booking, Booking.BookingStatus oldStatus, Booking.BookingStatus newStatus) {
+        int bookedChange = bookedWeight(newStatus) - bookedWeight(oldStatus);
+        int pendingChange = pendingWeight(newStatus) - pendingWeight(oldStatus);
+        if (bookedChange == 0 && pendingChange == 0) {
+            return;
+        }
+        List<Delta> deltas = new ArrayList<>();
+        hourlySeconds(booking.getStartTime(), booking.getEndTime()).forEach((hour, seconds) ->
+                deltas.add(new Delta(booking.getResourceId(), hour, bookedChange * seconds, pendingChange * seconds)));
+        utilizationBucketRepository.applyDeltas(deltas);
+    }
+
+    private static int bookedWeight(Booking.BookingStatus status) {
+        return status == Booking.BookingStatus.CONFIRMED || status == Booking.BookingStatus.COMPLETED ? 1 : 0;
+    }
+
+    private static int pendingWeight(Booking.BookingStatus status) {
+        return status == Booking.BookingStatus.PENDING ? 1 : 0;
+    }
+
+    /**
+     * Seconds of [start, end) falling into each clock hour.
+     */
+    static Map<LocalDateTime, Long> hourlySeconds(LocalDateTime start, LocalDateTime end) {
+        Map<LocalDateTime, Long> seconds = new LinkedHashMap<>();
+        if (start == null || end == null) {
+            return seconds;
+        }
+        LocalDateTime cursor = start;
+        while (cursor.isBefore(end)) {
+            LocalDateTime hour = cursor.truncatedTo(ChronoUnit.HOURS);
+            LocalDateTime next = hour.plusHours(1).isBefore(end) ? hour.plusHours(1) : end;
+            seconds.put(hour, Duration.between(cursor, next).getSeconds());
+            cursor = next;
+        }
+        return seconds;
+    }
+
+    /**
+     * Utilization over [from, to) for one resource, or every resource with bookings when
+     * {@code resourceId} is null. Reads only the pre-aggregated buckets.
+     */
+    @Transactional(readOnly = true)
+    public UtilizationReportDTO getUtilization(String resourceId, LocalDateTime from, LocalDateTime to,
+                                               Granularity granularity) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (Duration.between(from, to).toDays() > MAX_REPORT_DAYS) {
+            throw new IllegalArgumentException("Report range must not exceed " + MAX_REPORT_DAYS + " days");
+        }
+        // Whole hours only: the counters have hourly resolution
+        LocalDateTime fromHour = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime toHour = to.truncatedTo(ChronoUnit.HOURS).equals(to) ? to : to.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+
+        Map<String, TreeMap<LocalDateTime, long[]>> byResource = new LinkedHashMap<>();
+        for (UtilizationBucket bucket : utilizationBucketRepository.findBuckets(resourceId, fromHour, toHour)) {
+            long[] totals = byResource.computeIfAbsent(bucket.getResourceId(), id -> new TreeMap<>())
+                    .computeIfAbsent(granularity.truncate(bucket.getBucketStart()), start -> new long[2]);
+            totals[0] += bucket.getBookedSeconds();
+            totals[1] += bucket.getPendingSeconds();
+        }
+
+        long rangeSeconds = Duration.between(fromHour, toHour).getSeconds();
+        List<UtilizationReportDTO.ResourceUtilization> resources = new ArrayList<>();
+        byResource.forEach((id, buckets) -> {
+            long booked = 0;
+            long pending = 0;
+            List<UtilizationReportDTO.Bucket> rows = new ArrayList<>();
+            for (Map.Entry<LocalDateTime, long[]> entry : buckets.entrySet()) {
+                long[] totals = entry.getValue();
+                booked += totals[0];
+                pending += totals[1];
+                rows.add(new UtilizationReportDTO.Bucket(entry.getKey(), totals[0] / 60, totals[1] / 60,
+                        (double) totals[0] / granularity.seconds()));
+            }
+            resources.add(new UtilizationReportDTO.ResourceUtilization(id, booked / 60, pending / 60,
+                    (double) booked / rangeSeconds, rows));
+        });
+        return new UtilizationReportDTO(granularity.name(), fromHour, toHour, resources);
+    }
+
+    /**
+     * Recompute every counter from the bookings and archive tables, e.g. after first deploying
+     * the counters onto existing data. This is the one operation that scans bookings; run it
+     * while bookings are quiet, since transitions committed during the rebuild may be counted
+     * twice or missed.
+     *
+     * @return number of bookings processed
+     */
+    @Transactional
+    public long rebuild() {
+        long start = System.currentTimeMillis();
+        utilizationBucketRepository.deleteAllInBatch();
+        long processed = 0;
+        List<Booking> batch = bookingRepository.findPage(null, null, PageRequest.of(0, REBUILD_BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            addAll(batch);
+            processed += batch.size();
+            if (batch.size() < REBUILD_BATCH_SIZE) {
+                break;
+            }
+            Booking lastRow = batch.get(batch.size() - 1);
+            batch = bookingRepository.findPage(lastRow.getCreatedAt(), lastRow.getId(), PageRequest.of(0, REBUILD_BATCH_SIZE));
+        }
+        // Archived bookings keep counting towards the hours they occupied
+        List<ArchivedBooking> archived = archivedBookingRepository.findPage(null, null, PageRequest.of(0, REBUILD_BATCH_SIZE));
+        while (!archived.isEmpty()) {
+            addAll(archived.stream().map(ArchivedBooking::toBooking).toList());
+            processed += archived.size();
+            if (archived.size() < REBUILD_BATCH_SIZE) {
+                break;
+            }
+            ArchivedBooking lastRow = archived.get(archived.size() - 1);
+            archived = archivedBookingRepository.findPage(lastRow.getCreatedAt(), lastRow.getId(),
+                    PageRequest.of(0, REBUILD_BATCH_SIZE));
+        }
+        logger.info("Utilization counters rebuilt from {} booking(s) in {} ms", processed, System.currentTimeMillis() - start);
+        return processed;
+    }
+
+    /**
+     * Add the full contribution of each booking, summed per hour first so each bucket gets
+     * one upsert per batch.
+     */
+    private void addAll(List<Booking> bookings) {
+        Map<String, Map<LocalDateTime, long[]>> sums = new LinkedHashMap<>();
+        for (Booking booking : bookings) {
+            int booked = bookedWeight(booking.getStatus());
+            int pending = pendingWeight(booking.getStatus());
+            if (booked == 0 && pending == 0) {
+                continue;
+            }
+            Map<LocalDateTime, long[]> hours = sums.computeIfAbsent(booking.getResourceId(), id -> new LinkedHashMap<>());
+            hourlySeconds(booking.getStartTime(), booking.getEndTime()).forEach((hour, seconds) -> {
+                long[] totals = hours.computeIfAbsent(hour, h -> new long[2]);
+                totals[0] += booked * seconds;
+                totals[1] += pending * seconds;
+            });
+        }
+        List<Delta> deltas = new ArrayList<>();
+        sums.forEach((id, hours) -> hours.forEach((hour, totals) ->
+                deltas.add(new Delta(id, hour, totals[0], totals[1]))));
+        utilizationBucketRepository.applyDeltas(deltas);
+    }
+}
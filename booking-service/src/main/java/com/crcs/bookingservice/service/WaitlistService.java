@@ -0,0 +1,182 @@
+package com.crcs.bookingservice.service;
+
+import com.crcs.bookingservice.dto.request.CreateBookingRequestDTO;
+import com.crcs.bookingservice.dto.response.ResourceResponseDTO;
+import com.crcs.bookingservice.dto.response.WaitlistEntryResponseDTO;
+import com.crcs.bookingservice.model.Booking;
+import com.crcs.bookingservice.model.WaitlistEntry;
+import com.crcs.bookingservice.repository.BookingRepository;
+import com.crcs.bookingservice.repository.WaitlistEntryRepository;
+import com.crcs.bookingservice.stream.BookingStreamPublisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Waitlist for taken slots. When a booking that held a slot is cancelled,
+ * {@link #promoteInto(Booking)} runs in the cancelling transaction and turns the earliest
+ * waiters whose slot is now free into PENDING bookings, so the slot is never briefly open to
+ * whoever books first.
+ */
+@Service
+public class WaitlistService {
+    private static final Logger logger = LoggerFactory.getLogger(WaitlistService.class);
+    private static final int MAX_LISTED_ENTRIES = 100;
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final BookingRepository bookingRepository;
+    private final ResourceServiceClient resourceServiceClient;
+    private final UtilizationService utilizationService;
+    private final BookingStreamPublisher bookingStreamPublisher;
+    private final int promotionBatchSize;
+    private final Duration maxBookingDuration;
+
+    public WaitlistService(WaitlistEntryRepository waitlistEntryRepository,
+                           BookingRepository bookingRepository,
+                           ResourceServiceClient resourceServiceClient,
+                           UtilizationService utilizationService,
+                           BookingStreamPublisher bookingStreamPublisher,
+                           @Value("${booking.waitlist.promotion-batch-size:20}") int promotionBatchSize,
+                           @Value("${booking.max-duration-hours:168}") long maxDurationHours) {
+        this.waitlistEntryRepository = waitlistEntryRepository;
+        this.bookingRepository = bookingRepository;
+        this.resourceServiceClient = resourceServiceClient;
+        this.utilizationService = utilizationService;
+        this.bookingStreamPublisher = bookingStreamPublisher;
+        this.promotionBatchSize = promotionBatchSize;
+        this.maxBookingDuration = Duration.ofHours(maxDurationHours);
+    }
+
+    /**
+     * Queue the user for a slot that is currently taken. A free slot should be booked
+     * directly, so joining one is rejected.
+     */
+    @Transactional
+    public WaitlistEntryResponseDTO join(String userId, CreateBookingRequestDTO request) {
+        if (!request.getEndTime().isAfter(request.getStartTime())) {
+            throw new IllegalArgumentException("End time must be after start time");
+        }
+        if (Duration.between(request.getStartTime(), request.getEndTime()).compareTo(maxBookingDuration) > 0) {
+            throw new IllegalArgumentException("Bookings cannot be longer than " + maxBookingDuration.toHours() + " hours");
+        }
+        if (!request.getStartTime().isAfter(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Cannot join the waitlist for a slot that has already started");
+        }
+        ResourceResponseDTO resource = resourceServiceClient.getResourceById(request.getResourceId());
+        if (resource == null) {
+            throw new IllegalArgumentException("Resource not found");
+        }
+        if (!bookingRepository.existsConflictingBooking(request.getResourceId(), request.getStartTime(), request.getEndTime(),
+                maxBookingDuration)) {
+            throw new IllegalArgumentException("Resource is available for this time slot; book it directly");
+        }
+        if (waitlistEntryRepository.existsByUserIdAndResourceIdAndStartTimeAndEndTimeAndStatus(userId,
+                request.getResourceId(), request.getStartTime(), request.getEndTime(), WaitlistEntry.WaitlistStatus.WAITING)) {
+            throw new IllegalArgumentException("Already on the waitlist for this time slot");
+        }
+
+        WaitlistEntry entry = waitlistEntryRepository.save(WaitlistEntry.builder()
+                .id(UUID.randomUUID().toString())
+                .userId(userId)
+                .resourceId(request.getResourceId())
+                .startTime(request.getStartTime())
+                .endTime(request.getEndTime())
+                .status(WaitlistEntry.WaitlistStatus.WAITING)
+                .purpose(request.getPurpose())
+                .build());
+        logger.info("User {} joined the waitlist for resource {} ({} - {})", userId, entry.getResourceId(),
+                entry.getStartTime(), entry.getEndTime());
+        return mapToResponseDTO(entry);
+    }
+
+    /** Latest waitlist entries of the user, newest first. */
+    public List<WaitlistEntryResponseDTO> getWaitlistByUser(String userId) {
+        return waitlistEntryRepository.findByUserIdOrderByCreatedAtDesc(userId, PageRequest.of(0, MAX_LISTED_ENTRIES))
+                .stream()
+                .map(this::mapToResponseDTO)
+                .toList();
+    }
+
+    @Transactional
+    public boolean leave(String id, String userId) {
+        return waitlistEntryRepository.cancel(id, userId, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * Promote waiters into the slot {@code freed} held, which must already be cancelled in the
+     * current transaction. Reads at most promotion-batch-size waiters overlapping it, first
+     * come first; each whose slot no longer conflicts gets a PENDING booking, which then
+     * blocks the later ones that overlap it.
+     *
+     * @return the bookings created, for notifying their users after commit
+     */
+    @Transactional
+    public List<Booking> promoteInto(Booking freed) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!freed.getEndTime().isAfter(now)) {
+            return List.of();
+        }
+        List<WaitlistEntry> candidates = waitlistEntryRepository.findPromotable(freed.getResourceId(),
+                freed.getStartTime(), freed.getEndTime(), now, PageRequest.of(0, promotionBatchSize));
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        // The conflict probe is native SQL; make sure it sees the cancellation
+        bookingRepository.flush();
+
+        List<Booking> promoted = new ArrayList<>();
+        for (WaitlistEntry entry : candidates) {
+            if (bookingRepository.existsConflictingBooking(entry.getResourceId(), entry.getStartTime(), entry.getEndTime(),
+                    maxBookingDuration)) {
+                continue;
+            }
+            String bookingId = UUID.randomUUID().toString();
+            if (waitlistEntryRepository.promote(entry.getId(), bookingId, now) != 1) {
+                continue;
+            }
+            Booking booking = bookingRepository.saveAndFlush(Booking.builder()
+                    .id(bookingId)
+                    .userId(entry.getUserId())
+                    .resourceId(entry.getResourceId())
+                    .startTime(entry.getStartTime())
+                    .endTime(entry.getEndTime())
+                    .status(Booking.BookingStatus.PENDING)
+                    .purpose(entry.getPurpose())
+                    .build());
+            utilizationService.recordTransition(booking, null, booking.getStatus());
+            bookingStreamPublisher.publish(booking, null, booking.getStatus());
+            promoted.add(booking);
+            logger.info("Promoted waitlist entry {} into booking {} for user {}", entry.getId(), bookingId, entry.getUserId());
+        }
+        return promoted;
+    }
+
+    private WaitlistEntryResponseDTO mapToResponseDTO(WaitlistEntry entry) {
+        Long position = null;
+        if (entry.getStatus() == WaitlistEntry.WaitlistStatus.WAITING) {
+            position = waitlistEntryRepository.countAhead(entry.getResourceId(), entry.getStartTime(), entry.getEndTime(),
+                    LocalDateTime.now(), entry.getCreatedAt(), entry.getId()) + 1;
+        }
+        return WaitlistEntryResponseDTO.builder()
+                .id(entry.getId())
+                .userId(entry.getUserId())
+                .resourceId(entry.getResourceId())
+                .startTime(entry.getStartTime())
+                .endTime(entry.getEndTime())
+                .status(entry.getStatus())
+                .purpose(entry.getPurpose())
+                .bookingId(entry.getBookingId())
+                .position(position)
+                .createdAt(entry.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.crcs.bookingservice.stream;
+
+import com.crcs.common.dto.booking.BookingDeltaEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Follows the booking delta topic from its end and hands other instances' deltas to
+ * {@link BookingStreamPublisher}. Every instance must see every delta, so partitions are
+ * assigned manually and no consumer group is used: restarts and scale-downs leave nothing
+ * behind on the broker. After a consumer failure it resumes from the positions it had
+ * reached, so subscribers do not miss deltas across the restart.
+ */
+@Component
+public class BookingDeltaKafkaConsumer {
+    private static final Logger logger = LoggerFactory.getLogger(BookingDeltaKafkaConsumer.class);
+
+    private final BookingStreamPublisher bookingStreamPublisher;
+    private final ObjectMapper objectMapper;
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final String topic;
+    private final Duration pollTimeout;
+    private final long retryDelayMs;
+    private final Map<TopicPartition, Long> positions = new HashMap<>();
+
+    private volatile boolean running = true;
+    private volatile Consumer<String, String> consumer;
+    private Thread thread;
+
+    public BookingDeltaKafkaConsumer(BookingStreamPublisher bookingStreamPublisher, ObjectMapper objectMapper,
+                                     ConsumerFactory<String, String> consumerFactory,
+                                     @Value("${kafka.booking-delta.topic:" + BookingDeltaEvent.DEFAULT_TOPIC + "}") String topic,
+                                     @Value("${kafka.booking-delta.poll-timeout-ms:1000}") long pollTimeoutMs,
+                                     @Value("${kafka.booking-delta.retry-delay-ms:5000}") long retryDelayMs) {
+        this.bookingStreamPublisher = bookingStreamPublisher;
+        this.objectMapper = objectMapper;
+        this.consumerFactory = consumerFactory;
+        this.topic = topic;
+        this.pollTimeout = Duration.ofMillis(pollTimeoutMs);
+        this.retryDelayMs = retryDelayMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        thread = new Thread(this::run, "booking-delta-consumer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        Consumer<String, String> current = consumer;
+        if (current != null) {
+            current.wakeup();
+        }
+        thread.join(pollTimeout.toMillis() * 2);
+    }
+
+    private void run() {
+        while (running) {
+            Properties overrides = new Properties();
+            overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+            try (Consumer<String, String> kafkaConsumer = consumerFactory.createConsumer(null, null, null, overrides)) {
+                consumer = kafkaConsumer;
+                follow(kafkaConsumer);
+            } catch (WakeupException e) {
+                // stop() was called
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                logger.warn("Booking delta consumer failed, restarting in {} ms", retryDelayMs, e);
+                sleep(retryDelayMs);
+            } finally {
+                consumer = null;
+            }
+        }
+    }
+
+    private void follow(Consumer<String, String> kafkaConsumer) {
+        List<PartitionInfo> partitionInfos = kafkaConsumer.partitionsFor(topic);
+        while (running && (partitionInfos == null || partitionInfos.isEmpty())) {
+            logger.warn("Booking delta topic {} not found yet; retrying in {} ms", topic, retryDelayMs);
+            sleep(retryDelayMs);
+            partitionInfos = kafkaConsumer.partitionsFor(topic);
+        }
+        List<TopicPartition> partitions = partitionInfos.stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+        kafkaConsumer.assign(partitions);
+        for (TopicPartition partition : partitions) {
+            Long position = positions.get(partition);
+            if (position != null) {
+                kafkaConsumer.seek(partition, position);
+            } else {
+                // Only deltas from now on matter; clients load current state themselves
+                kafkaConsumer.seekToEnd(List.of(partition));
+            }
+        }
+
+        while (running) {
+            for (ConsumerRecord<String, String> record : kafkaConsumer.poll(pollTimeout)) {
+                receive(record.value());
+                positions.put(new TopicPartition(record.topic(), record.partition()), record.offset() + 1);
+            }
+        }
+    }
+
+    private void receive(String message) {
+        try {
+            bookingStreamPublisher.receive(objectMapper.readValue(message, BookingDeltaEvent.class));
+        } catch (Exception e) {
+            logger.error("Error processing booking delta message", e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.crcs.bookingservice.stream;
+
+import com.crcs.common.dto.booking.BookingDeltaEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans booking deltas out to SSE subscribers. Publishing never blocks on a client: each
+ * subscriber has a bounded buffer that is drained by its own virtual thread, and when a slow
+ * client's buffer is full the oldest delta is dropped. A client that lost deltas gets a
+ * {@code resync} event before the next one, telling it to reload instead of trusting its
+ * incremental state. Memory per subscriber is therefore bounded by {@code buffer-size}.
+ */
+@Component
+public class BookingStreamHub {
+    private static final Logger logger = LoggerFactory.getLogger(BookingStreamHub.class);
+
+    static final String EVENT_BOOKING = "booking";
+    static final String EVENT_RESYNC = "resync";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMs;
+    private final AtomicLong dropped = new AtomicLong();
+
+    public BookingStreamHub(@Value("${booking.stream.buffer-size:256}") int bufferSize,
+                            @Value("${booking.stream.max-subscribers:5000}") int maxSubscribers,
+                            @Value("${booking.stream.timeout-ms:1800000}") long timeoutMs) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Open a stream of deltas for the given resources, or for all resources when
+     * {@code resourceIds} is null.
+     *
+     * @throws IllegalStateException when the subscriber limit has been reached
+     */
+    public SseEmitter subscribe(Set<String> resourceIds) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Too many stream subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, resourceIds, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public void publish(BookingDeltaEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.wants(event.getResourceId()) && subscriber.offer(event)) {
+                senders.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Comment line to idle subscribers, so proxies and the gateway keep the connection open
+     * and dead clients are noticed.
+     */
+    @Scheduled(fixedDelayString = "${booking.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.requestHeartbeat()) {
+                senders.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                Subscriber.Next next = subscriber.next();
+                if (next == null) {
+                    return;
+                }
+                if (next.lost() > 0) {
+                    dropped.addAndGet(next.lost());
+                    subscriber.emitter.send(SseEmitter.event().name(EVENT_RESYNC).data(next.lost()));
+                }
+                if (next.event() != null) {
+                    subscriber.emitter.send(SseEmitter.event().name(EVENT_BOOKING)
+                            .data(next.event(), MediaType.APPLICATION_JSON));
+                } else if (next.heartbeat()) {
+                    subscriber.emitter.send(SseEmitter.event().comment("ping"));
+                }
+            }
+        } catch (Exception e) {
+            // IOException from a closed connection, or IllegalStateException after completion
+            logger.debug("Dropping stream subscriber: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.close();
+        }
+    }
+
+    /**
+     * Buffer and drain state of one client. {@link #offer} and {@link #requestHeartbeat} return
+     * true when the caller must start a drain; at most one drain runs per subscriber.
+     */
+    static final class Subscriber {
+        final SseEmitter emitter;
+        private final Set<String> resourceIds;
+        private final int capacity;
+        private final ArrayDeque<BookingDeltaEvent> buffer = new ArrayDeque<>();
+        private int lost;
+        private boolean heartbeatDue;
+        private boolean draining;
+        private boolean closed;
+
+        record Next(BookingDeltaEvent event, int lost, boolean heartbeat) {
+        }
+
+        Subscriber(SseEmitter emitter, Set<String> resourceIds, int capacity) {
+            this.emitter = emitter;
+            this.resourceIds = resourceIds;
+            this.capacity = capacity;
+        }
+
+        boolean wants(String resourceId) {
+            return resourceIds == null || resourceIds.contains(resourceId);
+        }
+
+        synchronized boolean offer(BookingDeltaEvent event) {
+            if (closed) {
+                return false;
+            }
+            if (buffer.size() >= capacity) {
+                buffer.pollFirst();
+                lost++;
+            }
+            buffer.addLast(event);
+            return startDrain();
+        }
+
+        synchronized boolean requestHeartbeat() {
+            if (closed || draining) {
+                return false;
+            }
+            heartbeatDue = true;
+            return startDrain();
+        }
+
+        /**
+         * The next thing to send, or null (ending the drain) when there is nothing left.
+         */
+        synchronized Next next() {
+            BookingDeltaEvent event = buffer.pollFirst();
+            if (event == null && lost == 0 && !heartbeatDue) {
+                draining = false;
+                return null;
+            }
+            Next next = new Next(event, lost, heartbeatDue);
+            lost = 0;
+            heartbeatDue = false;
+            return next;
+        }
+
+        synchronized void close() {
+            closed = true;
+            buffer.clear();
+        }
+
+        private boolean startDrain() {
+            if (draining) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+    }
+}
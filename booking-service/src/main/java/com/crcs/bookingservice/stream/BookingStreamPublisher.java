@@ -0,0 +1,80 @@
+package com.crcs.bookingservice.stream;
+
+import com.crcs.bookingservice.model.Booking;
+import com.crcs.common.dto.booking.BookingDeltaEvent;
+import com.crcs.kafka.producer.KafkaEventProducer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Sends booking status changes to this instance's {@link BookingStreamHub} and, via Kafka, to
+ * the hubs of the other instances. Both happen after the surrounding transaction commits, so
+ * clients never see a change that was rolled back.
+ */
+@Component
+public class BookingStreamPublisher {
+    private static final Logger logger = LoggerFactory.getLogger(BookingStreamPublisher.class);
+
+    private final BookingStreamHub hub;
+    private final KafkaEventProducer kafkaEventProducer;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public BookingStreamPublisher(BookingStreamHub hub, KafkaEventProducer kafkaEventProducer, ObjectMapper objectMapper,
+                                  @Value("${kafka.booking-delta.topic:" + BookingDeltaEvent.DEFAULT_TOPIC + "}") String topic) {
+        this.hub = hub;
+        this.kafkaEventProducer = kafkaEventProducer;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+    }
+
+    public void publish(Booking booking, Booking.BookingStatus oldStatus, Booking.BookingStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        BookingDeltaEvent event = new BookingDeltaEvent(booking.getId(), booking.getResourceId(),
+                booking.getStartTime(), booking.getEndTime(), oldStatus != null ? oldStatus.name() : null,
+                newStatus.name(), System.currentTimeMillis(), null);
+        afterCommit(() -> {
+            hub.publish(event);
+            try {
+                BookingDeltaEvent remote = new BookingDeltaEvent(event.getBookingId(), event.getResourceId(),
+                        event.getStartTime(), event.getEndTime(), event.getOldStatus(), event.getNewStatus(),
+                        event.getEventTime(), instanceId);
+                kafkaEventProducer.sendJsonMessage(topic, event.getResourceId(), objectMapper.writeValueAsString(remote));
+            } catch (Exception e) {
+                logger.error("Failed to publish booking delta for bookingId: {}", event.getBookingId(), e);
+            }
+        });
+    }
+
+    /** Deltas from other instances; our own were already delivered locally. */
+    void receive(BookingDeltaEvent event) {
+        if (instanceId.equals(event.getOrigin())) {
+            return;
+        }
+        event.setOrigin(null);
+        hub.publish(event);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.crcs.common.dto.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Broadcast by auth-service whenever a user's token epoch is bumped (logout, revocation).
+ * Access tokens carry the epoch they were issued under in the {@link #CLAIM} claim; verifiers
+ * reject tokens whose epoch is lower than the latest one seen for that user.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenEpochEvent {
+    /** JWT claim holding the token epoch. */
+    public static final String CLAIM = "epoch";
+    /** Kafka topic (log-compacted, keyed by userId). */
+    public static final String DEFAULT_TOPIC = "crcs-token-epoch";
+
+    private String userId;
+    private int epoch;
+    private long eventTime;
+}
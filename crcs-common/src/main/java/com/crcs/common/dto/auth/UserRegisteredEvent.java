@@ -0,0 +1,33 @@
+package com.crcs.common.dto.auth;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Published by auth-service after a new user row is committed. user-service consumes it to
+ * create the user's profile; consumers must be idempotent because delivery is at-least-once.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserRegisteredEvent {
+    public static final String EVENT_TYPE = "USER_REGISTERED";
+    /** Kafka topic, keyed by userId. */
+    public static final String DEFAULT_TOPIC = "crcs-user-registered";
+
+    private String eventType = EVENT_TYPE;
+    private String userId;
+    private String email;
+    private String name;
+    private String role;
+    private long eventTime;
+
+    public UserRegisteredEvent(String userId, String email, String name, String role, long eventTime) {
+        this.userId = userId;
+        this.email = email;
+        this.name = name;
+        this.role = role;
+        this.eventTime = eventTime;
+    }
+}
@@ -0,0 +1,32 @@
+package com.crcs.common.dto.booking;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A booking status change, streamed to subscribed clients by booking-service
+ * ({@code GET /bookings/stream}). {@code oldStatus} is null for a newly created booking.
+ * Instances exchange these over Kafka so every instance can push every change; {@code origin}
+ * identifies the sending instance and is not sent to clients.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookingDeltaEvent {
+    /** Kafka topic, keyed by resourceId. */
+    public static final String DEFAULT_TOPIC = "crcs-booking-delta";
+
+    private String bookingId;
+    private String resourceId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String oldStatus;
+    private String newStatus;
+    private long eventTime;
+    private String origin;
+}
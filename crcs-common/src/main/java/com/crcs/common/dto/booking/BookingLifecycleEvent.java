@@ -0,0 +1,31 @@
+package com.crcs.common.dto.booking;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by booking-service's lifecycle worker when it moves a booking to a terminal state
+ * on its own: a CONFIRMED booking whose end time has passed becomes COMPLETED, and a PENDING
+ * request whose start time passed without approval becomes EXPIRED. Keyed by resourceId so
+ * each resource's events stay in order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingLifecycleEvent {
+    public static final String BOOKING_COMPLETED = "BOOKING_COMPLETED";
+    public static final String BOOKING_EXPIRED = "BOOKING_EXPIRED";
+    /** Kafka topic, keyed by resourceId. */
+    public static final String DEFAULT_TOPIC = "crcs-booking-lifecycle";
+
+    private String eventType;
+    private String bookingId;
+    private String userId;
+    private String resourceId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private long eventTime;
+}
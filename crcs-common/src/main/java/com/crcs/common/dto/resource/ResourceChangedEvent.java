@@ -0,0 +1,44 @@
+package com.crcs.common.dto.resource;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Published by resource-service after every committed resource change. The topic is
+ * log-compacted and keyed by resourceId, so a consumer that replays it from the beginning ends
+ * up with the latest state of every resource. {@link #version} increases with every change to a
+ * resource; consumers should ignore an event whose version is not higher than the one they hold.
+ * A {@link ChangeType#DELETED} event carries only the id and version and is followed by a
+ * tombstone (null value), so compaction eventually drops the key; consumers must skip nulls.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceChangedEvent {
+    /** Bumped on incompatible changes to this payload. */
+    public static final int SCHEMA_VERSION = 1;
+    /** Kafka topic (log-compacted, keyed by resourceId). */
+    public static final String DEFAULT_TOPIC = "crcs-resource-changed";
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    @Builder.Default
+    private int schemaVersion = SCHEMA_VERSION;
+    private ChangeType changeType;
+    private String resourceId;
+    private long version;
+    private String name;
+    private String type;
+    private String status;
+    private String location;
+    private Integer capacity;
+    private String ownerId;
+    private long eventTime;
+}
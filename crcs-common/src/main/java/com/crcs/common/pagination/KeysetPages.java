@@ -0,0 +1,97 @@
+package com.crcs.common.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Keyset pagination over {@code (created_at, id)} shared by the list endpoints. A page is
+ * fetched with one extra row: if it comes back, there is a next page and its cursor is the
+ * position of the last row kept.
+ */
+public final class KeysetPages {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private KeysetPages() {
+    }
+
+    /**
+     * Rows after {@code after} (or from the start when null), at most {@code limit} of them,
+     * skipping {@code pageNumber * limit} rows; {@code pageNumber} is only non-zero for the
+     * OFFSET fallback.
+     */
+    @FunctionalInterface
+    public interface PageQuery<T> {
+        List<T> fetch(PageCursor after, int pageNumber, int limit);
+    }
+
+    /**
+     * @throws IllegalArgumentException if page is negative or size is outside 1..{@value #MAX_PAGE_SIZE}
+     */
+    public static void validate(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        validateSize(size);
+    }
+
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    /**
+     * With a cursor, or on page 0, the query seeks straight to the position so every page costs
+     * the same. A bare {@code page > 0} falls back to OFFSET for older clients. The total is
+     * counted only when asked for; by default only for requests without a cursor, which are
+     * the ones that render page counts.
+     *
+     * @param position cursor position of a row
+     * @throws IllegalArgumentException if the arguments are out of range or the cursor is malformed
+     */
+    public static <T> PageResponseDTO<T> load(PageQuery<T> query, LongSupplier count, Function<T, PageCursor> position,
+                                              int page, int size, String cursor, Boolean includeTotal) {
+        validate(page, size);
+        PageCursor after = PageCursor.decode(cursor);
+        PageResponseDTO<T> result;
+        if (after != null || page == 0) {
+            result = fromExtraRow(query.fetch(after, 0, size + 1), size, after, position);
+            result.setPage(page);
+        } else {
+            List<T> rows = query.fetch(null, page, size);
+            result = new PageResponseDTO<>(rows, page, size, null, null, rows.size() < size, false, null);
+        }
+
+        if (includeTotal != null ? includeTotal : after == null) {
+            long totalElements = count.getAsLong();
+            result.setTotalElements(totalElements);
+            result.setTotalPages(totalPages(totalElements, size));
+            if (after == null) {
+                result.setLast((long) (page + 1) * size >= totalElements);
+            }
+        }
+        List<T> rows = result.getContent();
+        result.setNextCursor(result.isLast() || rows.isEmpty() ? null : position.apply(rows.get(rows.size() - 1)).encode());
+        return result;
+    }
+
+    /**
+     * Page from rows fetched with a limit of {@code size + 1}: drops the extra row and sets
+     * {@code last} and {@code nextCursor} from it. No total is set.
+     *
+     * @param after the cursor the rows were fetched after, null for the first page
+     */
+    public static <T> PageResponseDTO<T> fromExtraRow(List<T> fetched, int size, PageCursor after,
+                                                      Function<T, PageCursor> position) {
+        boolean last = fetched.size() <= size;
+        List<T> rows = last ? fetched : fetched.subList(0, size);
+        String nextCursor = last || rows.isEmpty() ? null : position.apply(rows.get(rows.size() - 1)).encode();
+        return new PageResponseDTO<>(rows, 0, size, null, null, last, after == null, nextCursor);
+    }
+
+    public static int totalPages(long totalElements, int size) {
+        return (int) ((totalElements + size - 1) / size);
+    }
+}
@@ -0,0 +1,43 @@
+package com.crcs.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset-pagination cursor over {@code (created_at, id)}, the position of the last row
+ * of a page. List endpoints order rows by {@code created_at DESC, id DESC}, so the next page is
+ * every row strictly before this position and costs one index range scan at any depth.
+ */
+public record PageCursor(LocalDateTime createdAt, String id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = createdAt + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor returned by a previous page.
+     *
+     * @return null if {@code cursor} is blank
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
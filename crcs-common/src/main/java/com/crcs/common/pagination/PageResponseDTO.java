@@ -0,0 +1,34 @@
+package com.crcs.common.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * One page of a keyset-paginated listing. Pass {@code nextCursor} back as {@code cursor} to
+ * fetch the following page; it is null on the last page. {@code totalElements} and
+ * {@code totalPages} are null unless the total was requested, since counting scans the table.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponseDTO<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private Long totalElements;
+    private Integer totalPages;
+    private boolean last;
+    private boolean first;
+    private String nextCursor;
+
+    /** The same page with every row converted, e.g. entities to response DTOs. */
+    public <R> PageResponseDTO<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().map(mapper).collect(Collectors.toList());
+        return new PageResponseDTO<>(mapped, page, size, totalElements, totalPages, last, first, nextCursor);
+    }
+}
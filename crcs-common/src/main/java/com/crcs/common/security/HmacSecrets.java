@@ -0,0 +1,36 @@
+package com.crcs.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Derives HMAC key bytes from the configured jwt.secret. Shared by auth-service and the gateway
+ * so legacy HS256 tokens verify identically everywhere.
+ */
+public final class HmacSecrets {
+
+    private static final int MIN_KEY_LENGTH = 32;
+
+    private HmacSecrets() {
+    }
+
+    /**
+     * Base64-decode the secret if possible; otherwise use its UTF-8 bytes, repeating them up to
+     * 32 bytes when shorter (HS256 minimum).
+     */
+    public static byte[] keyBytes(String secret) {
+        try {
+            return Base64.getDecoder().decode(secret);
+        } catch (IllegalArgumentException e) {
+            byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+            if (secretBytes.length >= MIN_KEY_LENGTH) {
+                return secretBytes;
+            }
+            byte[] padded = new byte[MIN_KEY_LENGTH];
+            for (int i = 0; i < MIN_KEY_LENGTH; i++) {
+                padded[i] = secretBytes[i % secretBytes.length];
+            }
+            return padded;
+        }
+    }
+}
@@ -38,10 +38,13 @@ public class KafkaProducerConfig {
     }
 
     /**
-     * KafkaTemplate for string messages (JSON notifications)
+     * KafkaTemplate for string messages (JSON notifications). Observation puts the current
+     * trace context in the record headers, so consumers continue the producer's trace.
      */
     @Bean
     public KafkaTemplate<String, String> notificationKafkaTemplate() {
-        return new KafkaTemplate<>(notificationProducerFactory());
+        KafkaTemplate<String, String> template = new KafkaTemplate<>(notificationProducerFactory());
+        template.setObservationEnabled(true);
+        return template;
     }
 }
@@ -5,8 +5,11 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Centralized Kafka Event Producer (Spring Boot wrapper)
  * Provides methods to send events to Kafka topics
@@ -36,6 +39,18 @@ public class KafkaEventProducer {
         }
     }
 
+    /**
+     * Send JSON message to Kafka topic and return the broker acknowledgement. Unlike
+     * {@link #sendJsonMessage(String, String, String)}, a failed send is not lost: the returned
+     * future completes exceptionally, for callers that must retry or fail.
+     * @param topic Topic name
+     * @param key Message key
+     * @param message JSON message to send
+     */
+    public CompletableFuture<SendResult<String, String>> sendJsonMessageAcked(String topic, String key, String message) {
+        return notificationKafkaTemplate.send(topic, key, message);
+    }
+
     /**
      * Send JSON message to Kafka topic without key
      * @param topic Topic name
@@ -9,6 +9,43 @@ export interface AvailabilityCheckResponse {
   message: string;
 }
 
+export interface PendingQueueParams {
+  resourceId?: string;
+  ownerId?: string;
+  from?: string;
+  to?: string;
+  size?: number;
+  cursor?: string;
+}
+
+export interface BulkDecisionResult {
+  decision: 'APPROVE' | 'REJECT';
+  processed: string[];
+  skipped: { bookingId: string; reason: string }[];
+}
+
+export interface WaitlistEntry {
+  id: string;
+  userId: string;
+  resourceId: string;
+  startTime: string;
+  endTime: string;
+  status: 'WAITING' | 'PROMOTED' | 'CANCELLED' | 'EXPIRED';
+  purpose?: string;
+  bookingId?: string;
+  position?: number;
+  createdAt: string;
+}
+
+export interface AvailabilityMatrix {
+  from: string;
+  to: string;
+  slotMinutes: number;
+  slots: number;
+  /** `occupied`: base64 bitset, slot i booked when bit i % 8 of byte i / 8 is set. */
+  resources: { resourceId: string; occupied: string; occupiedSlots: number }[];
+}
+
 export const bookingsApi = {
   checkAvailability: (params: {
     resourceId: string;
@@ -20,8 +57,16 @@ export const bookingsApi = {
   checkAvailabilityPost: (body: CreateBookingRequest) =>
     apiClient.post<AvailabilityCheckResponse>('/bookings/availability', body).then((r) => r.data),
 
-  create: (body: CreateBookingRequest) =>
-    apiClient.post<Booking>('/bookings', body).then((r) => r.data),
+  getAvailabilityMatrix: (body: { resourceIds: string[]; from: string; to: string; slotMinutes?: number }) =>
+    apiClient.post<AvailabilityMatrix>('/bookings/availability/matrix', body).then((r) => r.data),
+
+  /** Retries with the same idempotencyKey return the first result instead of booking twice. */
+  create: (body: CreateBookingRequest, idempotencyKey?: string) =>
+    apiClient
+      .post<Booking>('/bookings', body, {
+        headers: idempotencyKey ? { 'Idempotency-Key': idempotencyKey } : undefined,
+      })
+      .then((r) => r.data),
 
   getById: (id: string) => apiClient.get<Booking>(`/bookings/${id}`).then((r) => r.data),
 
@@ -41,6 +86,23 @@ export const bookingsApi = {
   approve: (id: string) =>
     apiClient.post<Booking>(`/bookings/${id}/approve`).then((r) => r.data),
 
+  getPendingQueue: (params?: PendingQueueParams) =>
+    apiClient.get<PageResponse<Booking>>('/bookings/pending', { params }).then((r) => r.data),
+
+  decide: (bookingIds: string[], decision: 'APPROVE' | 'REJECT', reason?: string) =>
+    apiClient
+      .post<BulkDecisionResult>('/bookings/approve', { bookingIds, decision, reason })
+      .then((r) => r.data),
+
   cancel: (id: string) =>
     apiClient.post<{ message: string }>(`/bookings/${id}/cancel`).then((r) => r.data),
+
+  joinWaitlist: (body: CreateBookingRequest) =>
+    apiClient.post<WaitlistEntry>('/bookings/waitlist', body).then((r) => r.data),
+
+  getUserWaitlist: (userId: string) =>
+    apiClient.get<WaitlistEntry[]>(`/bookings/waitlist/user/${userId}`).then((r) => r.data),
+
+  leaveWaitlist: (id: string) =>
+    apiClient.delete<{ message: string }>(`/bookings/waitlist/${id}`).then((r) => r.data),
 };
@@ -1,7 +1,7 @@
 import axios, { AxiosError } from 'axios';
 
 // In dev, use relative URLs so Vite proxies to the gateway (avoids CORS). In prod, use env or default.
-const BASE_URL =
+export const BASE_URL =
   import.meta.env.DEV
     ? ''
     : (import.meta.env.VITE_API_BASE_URL || 'http://localhost:6000');
@@ -0,0 +1,80 @@
+import { BASE_URL } from './client';
+import type { BookingStatus } from '../types';
+
+export interface BookingDelta {
+  bookingId: string;
+  resourceId: string;
+  startTime: string;
+  endTime: string;
+  oldStatus?: BookingStatus;
+  newStatus: BookingStatus;
+  eventTime: number;
+}
+
+export interface BookingStreamHandlers {
+  onDelta: (delta: BookingDelta) => void;
+  /** Deltas were lost (slow connection) or the stream reconnected: reload current state. */
+  onResync: () => void;
+}
+
+const RECONNECT_DELAY_MS = 3000;
+
+/**
+ * Follow booking status changes for the given resources (all resources when empty; managers
+ * only) over GET /bookings/stream. Uses fetch rather than EventSource so the bearer token can
+ * be sent. Reconnects until the returned function is called.
+ */
+export function subscribeBookingStream(resourceIds: string[], handlers: BookingStreamHandlers): () => void {
+  const controller = new AbortController();
+  const query = resourceIds.length ? `?resourceIds=${encodeURIComponent(resourceIds.join(','))}` : '';
+  let connectedBefore = false;
+
+  const connect = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const token = localStorage.getItem('token');
+        const res = await fetch(`${BASE_URL}/bookings/stream${query}`, {
+          headers: { Accept: 'text/event-stream', ...(token ? { Authorization: `Bearer ${token}` } : {}) },
+          credentials: 'include',
+          signal: controller.signal,
+        });
+        if (!res.ok || !res.body) {
+          throw new Error(`Stream request failed: ${res.status}`);
+        }
+        if (connectedBefore) {
+          handlers.onResync();
+        }
+        connectedBefore = true;
+        await readEvents(res.body, handlers);
+      } catch {
+        if (controller.signal.aborted) return;
+      }
+      await new Promise((resolve) => setTimeout(resolve, RECONNECT_DELAY_MS));
+    }
+  };
+  connect();
+  return () => controller.abort();
+}
+
+async function readEvents(body: ReadableStream<Uint8Array>, handlers: BookingStreamHandlers) {
+  const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffer = '';
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) return;
+    buffer += value;
+    let end: number;
+    while ((end = buffer.indexOf('\n\n')) >= 0) {
+      const block = buffer.slice(0, end);
+      buffer = buffer.slice(end + 2);
+      let event = 'message';
+      const data: string[] = [];
+      for (const line of block.split('\n')) {
+        if (line.startsWith('event:')) event = line.slice(6).trim();
+        else if (line.startsWith('data:')) data.push(line.slice(5).replace(/^ /, ''));
+      }
+      if (event === 'resync') handlers.onResync();
+      else if (event === 'booking' && data.length) handlers.onDelta(JSON.parse(data.join('\n')) as BookingDelta);
+    }
+  }
+}
@@ -16,7 +16,10 @@ export function CreateBooking() {
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
   const [successMessage, setSuccessMessage] = useState<string | null>(null);
+  const [canWaitlist, setCanWaitlist] = useState(false);
   const navigateTimeoutRef = useRef<ReturnType<typeof setTimeout> | null>(null);
+  // Same form contents, same key: a double submit or retry cannot create two bookings
+  const idempotencyRef = useRef<{ form: string; key: string } | null>(null);
 
   useEffect(() => {
     resourcesApi
@@ -41,18 +44,47 @@ export function CreateBooking() {
       return;
     }
     setError(null);
+    setCanWaitlist(false);
     setLoading(true);
+    const form = JSON.stringify([resourceId, startTime, endTime, purpose]);
+    if (idempotencyRef.current?.form !== form) {
+      idempotencyRef.current = { form, key: crypto.randomUUID() };
+    }
+    const idempotencyKey = idempotencyRef.current.key;
     try {
       await bookingsApi.create({
         resourceId,
         startTime: toISO(startTime),
         endTime: toISO(endTime),
         purpose: purpose || undefined,
-      });
+      }, idempotencyKey);
       setSuccessMessage('Booking created successfully');
       navigateTimeoutRef.current = setTimeout(() => {
         navigate('/bookings');
       }, 2000);
+    } catch (err) {
+      setError(getApiErrorMessage(err));
+      // The slot may be taken: offer to queue for it instead
+      setCanWaitlist(true);
+    } finally {
+      setLoading(false);
+    }
+  };
+
+  const handleJoinWaitlist = async () => {
+    setError(null);
+    setLoading(true);
+    try {
+      const entry = await bookingsApi.joinWaitlist({
+        resourceId,
+        startTime: toISO(startTime),
+        endTime: toISO(endTime),
+        purpose: purpose || undefined,
+      });
+      setCanWaitlist(false);
+      setSuccessMessage(
+        `Added to the waitlist (position ${entry.position ?? 1}). A booking request is created for you if the slot frees up.`
+      );
     } catch (err) {
       setError(getApiErrorMessage(err));
     } finally {
@@ -117,6 +149,11 @@ export function CreateBooking() {
             <button type="submit" className="btn-primary" disabled={loading}>
               {loading ? 'Creating...' : 'Create booking'}
             </button>
+            {canWaitlist && (
+              <button type="button" className="btn-secondary" disabled={loading} onClick={handleJoinWaitlist}>
+                Join waitlist for this slot
+              </button>
+            )}
             <Link to="/bookings" className="btn-secondary">
               Cancel
             </Link>
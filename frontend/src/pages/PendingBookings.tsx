@@ -1,38 +1,99 @@
-import { useEffect, useState } from 'react';
+import { useCallback, useEffect, useState } from 'react';
 import { Link } from 'react-router-dom';
 import { bookingsApi } from '../api/bookings';
-import { resourcesApi } from '../api/resources';
+import { subscribeBookingStream } from '../api/stream';
+import type { BookingDelta } from '../api/stream';
 import type { Booking } from '../types';
 import { getApiErrorMessage } from '../api/auth';
 
+const PAGE_SIZE = 50;
+
 export function PendingBookings() {
   const [pending, setPending] = useState<Booking[]>([]);
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [selected, setSelected] = useState<Set<string>>(new Set());
   const [loading, setLoading] = useState(true);
+  const [busy, setBusy] = useState(false);
   const [error, setError] = useState<string | null>(null);
+  const [notice, setNotice] = useState<string | null>(null);
 
-  useEffect(() => {
+  const load = useCallback(() => {
     setLoading(true);
-    resourcesApi
-      .getAvailable({ page: 0, size: 20 })
+    bookingsApi
+      .getPendingQueue({ size: PAGE_SIZE })
       .then((res) => {
-        const ids = res.content.map((r) => r.id);
-        return Promise.all(ids.map((id) => bookingsApi.getResourceBookings(id, { page: 0, size: 50 })));
-      })
-      .then((pages) => {
-        const all: Booking[] = [];
-        pages.forEach((p) => all.push(...p.content.filter((b) => b.status === 'PENDING')));
-        setPending(all);
+        setPending(res.content);
+        setNextCursor(res.nextCursor ?? null);
+        setSelected(new Set());
       })
       .catch((err) => setError(getApiErrorMessage(err)))
       .finally(() => setLoading(false));
   }, []);
 
-  const handleApprove = async (id: string) => {
+  useEffect(load, [load]);
+
+  const loadMore = () => {
+    if (!nextCursor) return;
+    bookingsApi
+      .getPendingQueue({ size: PAGE_SIZE, cursor: nextCursor })
+      .then((res) => {
+        setPending((prev) => [...prev, ...res.content.filter((b) => !prev.some((p) => p.id === b.id))]);
+        setNextCursor(res.nextCursor ?? null);
+      })
+      .catch((err) => setError(getApiErrorMessage(err)));
+  };
+
+  // Live updates instead of reloading: new requests appear, decided ones disappear
+  useEffect(() => {
+    const onDelta = (delta: BookingDelta) => {
+      if (delta.newStatus === 'PENDING') {
+        bookingsApi
+          .getById(delta.bookingId)
+          .then((b) => setPending((prev) => (prev.some((p) => p.id === b.id) ? prev : [...prev, b])))
+          .catch(() => undefined);
+      } else {
+        setPending((prev) => prev.filter((b) => b.id !== delta.bookingId));
+        setSelected((prev) => {
+          if (!prev.has(delta.bookingId)) return prev;
+          const next = new Set(prev);
+          next.delete(delta.bookingId);
+          return next;
+        });
+      }
+    };
+    return subscribeBookingStream([], { onDelta, onResync: load });
+  }, [load]);
+
+  const toggle = (id: string) =>
+    setSelected((prev) => {
+      const next = new Set(prev);
+      if (next.has(id)) next.delete(id);
+      else next.add(id);
+      return next;
+    });
+
+  const toggleAll = () =>
+    setSelected((prev) => (prev.size === pending.length ? new Set() : new Set(pending.map((b) => b.id))));
+
+  const decide = async (ids: string[], decision: 'APPROVE' | 'REJECT') => {
+    if (ids.length === 0) return;
+    setBusy(true);
+    setError(null);
+    setNotice(null);
     try {
-      await bookingsApi.approve(id);
-      setPending((prev) => prev.filter((b) => b.id !== id));
+      const result = await bookingsApi.decide(ids, decision);
+      const done = new Set(result.processed);
+      setPending((prev) => prev.filter((b) => !done.has(b.id)));
+      setSelected(new Set());
+      const verb = decision === 'APPROVE' ? 'approved' : 'rejected';
+      setNotice(
+        `${result.processed.length} booking(s) ${verb}` +
+          (result.skipped.length ? `; ${result.skipped.length} skipped (${result.skipped[0].reason})` : '')
+      );
     } catch (err) {
       setError(getApiErrorMessage(err));
+    } finally {
+      setBusy(false);
     }
   };
 
@@ -43,6 +104,7 @@ export function PendingBookings() {
         <p>Approve or reject booking requests (FACILITY_MANAGER / ADMIN)</p>
       </div>
       {error && <div className="alert alert-error">{error}</div>}
+      {notice && <div className="alert">{notice}</div>}
       {loading ? (
         <p className="muted">Loading...</p>
       ) : pending.length === 0 ? (
@@ -50,39 +112,78 @@ export function PendingBookings() {
           <p className="muted">No pending bookings.</p>
         </div>
       ) : (
-        <div className="table-wrap card">
-          <table>
-            <thead>
-              <tr>
-                <th>Resource</th>
-                <th>Start</th>
-                <th>End</th>
-                <th>Purpose</th>
-                <th>Action</th>
-              </tr>
-            </thead>
-            <tbody>
-              {pending.map((b) => (
-                <tr key={b.id}>
-                  <td>{b.resourceName}</td>
-                  <td>{new Date(b.startTime).toLocaleString()}</td>
-                  <td>{new Date(b.endTime).toLocaleString()}</td>
-                  <td>{b.purpose ?? '—'}</td>
-                  <td>
-                    <button
-                      type="button"
-                      className="btn-primary"
-                      style={{ fontSize: '0.85rem', padding: '0.35rem 0.6rem' }}
-                      onClick={() => handleApprove(b.id)}
-                    >
-                      Approve
-                    </button>
-                  </td>
+        <>
+          <p style={{ display: 'flex', gap: '0.5rem' }}>
+            <button
+              type="button"
+              className="btn-primary"
+              disabled={busy || selected.size === 0}
+              onClick={() => decide([...selected], 'APPROVE')}
+            >
+              Approve selected ({selected.size})
+            </button>
+            <button
+              type="button"
+              className="btn-secondary"
+              disabled={busy || selected.size === 0}
+              onClick={() => decide([...selected], 'REJECT')}
+            >
+              Reject selected
+            </button>
+          </p>
+          <div className="table-wrap card">
+            <table>
+              <thead>
+                <tr>
+                  <th>
+                    <input
+                      type="checkbox"
+                      aria-label="Select all"
+                      checked={selected.size === pending.length}
+                      onChange={toggleAll}
+                    />
+                  </th>
+                  <th>Resource</th>
+                  <th>Start</th>
+                  <th>End</th>
+                  <th>Purpose</th>
+                  <th>Action</th>
                 </tr>
-              ))}
-            </tbody>
-          </table>
-        </div>
+              </thead>
+              <tbody>
+                {pending.map((b) => (
+                  <tr key={b.id}>
+                    <td>
+                      <input type="checkbox" checked={selected.has(b.id)} onChange={() => toggle(b.id)} />
+                    </td>
+                    <td>{b.resourceName}</td>
+                    <td>{new Date(b.startTime).toLocaleString()}</td>
+                    <td>{new Date(b.endTime).toLocaleString()}</td>
+                    <td>{b.purpose ?? '—'}</td>
+                    <td>
+                      <button
+                        type="button"
+                        className="btn-primary"
+                        style={{ fontSize: '0.85rem', padding: '0.35rem 0.6rem' }}
+                        disabled={busy}
+                        onClick={() => decide([b.id], 'APPROVE')}
+                      >
+                        Approve
+                      </button>
+                    </td>
+                  </tr>
+                ))}
+              </tbody>
+            </table>
+          </div>
+          {nextCursor && (
+            <p>
+              <button type="button" className="btn-secondary" onClick={loadMore}>
+                Load more
+              </button>
+            </p>
+          )}
+        </>
       )}
       <p style={{ marginTop: '1rem' }}>
         <Link to="/bookings" className="btn-secondary">← Back to my bookings</Link>
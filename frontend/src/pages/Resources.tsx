@@ -1,6 +1,10 @@
-import { useEffect, useState } from 'react';
+import { useCallback, useEffect, useState } from 'react';
 import { Link } from 'react-router-dom';
 import { resourcesApi } from '../api/resources';
+import { bookingsApi } from '../api/bookings';
+import type { AvailabilityMatrix } from '../api/bookings';
+import { subscribeBookingStream } from '../api/stream';
+import type { BookingDelta } from '../api/stream';
 import { useAuth } from '../context/AuthContext';
 import { canManageResources } from '../types';
 import type { Resource, ResourceType } from '../types';
@@ -8,6 +12,24 @@ import { getApiErrorMessage } from '../api/auth';
 import './Resources.css';
 
 const PAGE_SIZE = 10;
+const SLOT_MINUTES = 5;
+const WINDOW_SLOTS = 24;
+
+/** Local date-time as the booking API expects it (no zone). */
+function toLocalDateTime(date: Date): string {
+  const pad = (n: number) => String(n).padStart(2, '0');
+  return `${date.getFullYear()}-${pad(date.getMonth() + 1)}-${pad(date.getDate())}T${pad(date.getHours())}:${pad(date.getMinutes())}:00`;
+}
+
+function currentSlot(matrix: AvailabilityMatrix, now: number): number {
+  return Math.floor((now - new Date(matrix.from).getTime()) / (matrix.slotMinutes * 60_000));
+}
+
+function isBooked(matrix: AvailabilityMatrix, resourceId: string, slot: number): boolean {
+  const row = matrix.resources.find((m) => m.resourceId === resourceId);
+  if (!row || slot < 0 || slot >= matrix.slots) return false;
+  return (atob(row.occupied).charCodeAt(slot >> 3) & (1 << (slot & 7))) !== 0;
+}
 
 export function Resources() {
   const { user } = useAuth();
@@ -18,6 +40,8 @@ export function Resources() {
   const [typeFilter, setTypeFilter] = useState<ResourceType | ''>('');
   const [loading, setLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
+  const [availability, setAvailability] = useState<AvailabilityMatrix | null>(null);
+  const [now, setNow] = useState(() => Date.now());
 
   useEffect(() => {
     setLoading(true);
@@ -34,6 +58,53 @@ export function Resources() {
       .finally(() => setLoading(false));
   }, [page, typeFilter]);
 
+  const resourceIds = resources.map((r) => r.id).join(',');
+
+  // Occupancy for the next two hours of the listed resources
+  const loadAvailability = useCallback(() => {
+    if (!resourceIds) {
+      setAvailability(null);
+      return;
+    }
+    const from = new Date();
+    from.setSeconds(0, 0);
+    bookingsApi
+      .getAvailabilityMatrix({
+        resourceIds: resourceIds.split(','),
+        from: toLocalDateTime(from),
+        to: toLocalDateTime(new Date(from.getTime() + WINDOW_SLOTS * SLOT_MINUTES * 60_000)),
+        slotMinutes: SLOT_MINUTES,
+      })
+      .then(setAvailability)
+      .catch(() => setAvailability(null));
+  }, [resourceIds]);
+
+  useEffect(loadAvailability, [loadAvailability]);
+
+  // Live updates instead of polling: reload occupancy when a booking in the window changes
+  useEffect(() => {
+    if (!resourceIds) return;
+    const onDelta = (delta: BookingDelta) => {
+      const windowEnd = Date.now() + WINDOW_SLOTS * SLOT_MINUTES * 60_000;
+      if (new Date(delta.startTime).getTime() < windowEnd && new Date(delta.endTime).getTime() > Date.now()) {
+        loadAvailability();
+      }
+    };
+    return subscribeBookingStream(resourceIds.split(','), { onDelta, onResync: loadAvailability });
+  }, [resourceIds, loadAvailability]);
+
+  // Move through the loaded window as time passes; reload once it runs out
+  useEffect(() => {
+    const timer = setInterval(() => setNow(Date.now()), 60_000);
+    return () => clearInterval(timer);
+  }, []);
+
+  useEffect(() => {
+    if (availability && currentSlot(availability, now) >= availability.slots) {
+      loadAvailability();
+    }
+  }, [availability, now, loadAvailability]);
+
   const canManage = user && canManageResources(user.role);
 
   return (
@@ -92,6 +163,7 @@ export function Resources() {
                   <th>Status</th>
                   <th>Location</th>
                   <th>Capacity</th>
+                  <th>Now</th>
                   {canManage && <th></th>}
                 </tr>
               </thead>
@@ -107,6 +179,11 @@ export function Resources() {
                     </td>
                     <td>{r.location ?? '—'}</td>
                     <td>{r.capacity ?? '—'}</td>
+                    <td>
+                      {availability
+                        ? isBooked(availability, r.id, currentSlot(availability, now)) ? 'Booked' : 'Free'
+                        : '—'}
+                    </td>
                     {canManage && (
                       <td>
                         <Link to={`/resources/manage/${r.id}`} className="btn-secondary" style={{ fontSize: '0.85rem', padding: '0.35rem 0.6rem' }}>
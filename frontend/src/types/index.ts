@@ -78,7 +78,7 @@ export interface UpdateResourceRequest {
   status?: ResourceStatus;
 }
 
-export type BookingStatus = 'PENDING' | 'CONFIRMED' | 'CANCELLED' | 'COMPLETED';
+export type BookingStatus = 'PENDING' | 'CONFIRMED' | 'CANCELLED' | 'COMPLETED' | 'EXPIRED';
 
 export interface Booking {
   id: string;
@@ -108,6 +108,7 @@ export interface PageResponse<T> {
   totalPages: number;
   last: boolean;
   first: boolean;
+  nextCursor?: string | null;
 }
 
 export interface ApiError {
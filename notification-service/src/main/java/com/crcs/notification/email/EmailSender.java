@@ -1,5 +1,7 @@
 package com.crcs.notification.email;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.mail.*;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeBodyPart;
@@ -18,11 +20,14 @@ import java.util.Properties;
 public class EmailSender {
     private static final Logger logger = LoggerFactory.getLogger(EmailSender.class);
     private final Session session;
+    private final ObservationRegistry observationRegistry;
 
-    public EmailSender(@Value("${smtp.host:smtp.gmail.com}") String smtpHost,
+    public EmailSender(ObservationRegistry observationRegistry,
+                       @Value("${smtp.host:smtp.gmail.com}") String smtpHost,
                        @Value("${smtp.port:587}") String smtpPort,
                        @Value("${smtp.username:}") String username,
                        @Value("${smtp.password:}") String password) {
+        this.observationRegistry = observationRegistry;
         Properties props = new Properties();
         props.put("mail.smtp.host", smtpHost);
         props.put("mail.smtp.port", smtpPort);
@@ -98,8 +103,10 @@ public class EmailSender {
             
             message.setContent(multipart);
             
-            // Send message
-            Transport.send(message);
+            // Send message; the SMTP round trip is usually the slowest step of a notification
+            Observation.createNotStarted("crcs.email.send", observationRegistry)
+                    .highCardinalityKeyValue("recipients", Integer.toString(to.size()))
+                    .observeChecked(() -> Transport.send(message));
             logger.info("Email sent successfully to: {}", to);
             return true;
         } catch (MessagingException e) {
@@ -0,0 +1,124 @@
+package com.crcs.notification.email;
+
+import com.crcs.common.dto.notification.Notification;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Several bookings of one user approved or rejected together (bulk decision). Metadata:
+ * decision (APPROVED / REJECTED), count, bookings (one line per booking) and optional reason.
+ * Reason, resource names and the user's name are free text and are escaped in the HTML body.
+ */
+public class EmailTemplateBookingsDecided implements EmailTemplateInterface {
+    private String subject;
+    private String textBody;
+    private String htmlBody;
+    private List<String> emailTo;
+    private List<String> emailCc;
+    private List<String> emailBcc;
+    private String emailFrom;
+    private List<String> attachments;
+    private String customerName;
+    private boolean approved;
+    private String count;
+    private List<String> bookings;
+    private String reason;
+
+    @Override
+    public void setNotification(Notification notification) {
+        this.customerName = notification.getCommunicationParams().getContactName();
+        if (this.customerName == null || this.customerName.isEmpty()) {
+            this.customerName = "Valued User";
+        }
+
+        Map<String, String> metadata = notification.getData().getMetadata() != null
+                ? notification.getData().getMetadata() : Map.of();
+        this.approved = !"REJECTED".equals(metadata.get("decision"));
+        this.count = metadata.getOrDefault("count", "");
+        String lines = metadata.get("bookings");
+        this.bookings = lines != null && !lines.isEmpty() ? List.of(lines.split("\n")) : List.of();
+        this.reason = metadata.get("reason");
+
+        this.emailFrom = notification.getCommunicationParams().getFromEmail();
+        if (this.emailFrom == null || this.emailFrom.isEmpty()) {
+            this.emailFrom = DEFAULT_EMAIL_FROM;
+        }
+
+        List<String> toList = notification.getCommunicationParams().getToEmailList();
+        this.emailTo = toList != null ? new ArrayList<>(toList) : new ArrayList<>();
+        this.emailCc = new ArrayList<>();
+        this.emailBcc = new ArrayList<>();
+        this.attachments = new ArrayList<>();
+
+        this.subject = (approved ? "Bookings Confirmed" : "Bookings Not Approved") + " (" + count + ")";
+        this.textBody = buildTextBody();
+        this.htmlBody = buildHtmlBody();
+    }
+
+    private String outcome() {
+        return approved ? "have been confirmed" : "were not approved";
+    }
+
+    private String buildTextBody() {
+        StringBuilder list = new StringBuilder();
+        bookings.forEach(line -> list.append("- ").append(line).append("\n"));
+        return String.format(
+            "Hello %s,\n\n" +
+            "The following bookings %s:\n\n" +
+            "%s\n" +
+            "%s" +
+            "Thank you for using CRCS!\n\n" +
+            "Best regards,\n" +
+            "The CRCS Team",
+            customerName, outcome(), list,
+            reason != null && !reason.isEmpty() ? "Note: " + reason + "\n\n" : ""
+        );
+    }
+
+    private String buildHtmlBody() {
+        StringBuilder list = new StringBuilder();
+        bookings.forEach(line -> list.append("<li>").append(HtmlUtils.htmlEscape(line)).append("</li>"));
+        return String.format(
+            "<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><style>" +
+            "body { font-family: Arial, sans-serif; line-height: 1.6; color: #333; }" +
+            ".container { max-width: 600px; margin: 0 auto; padding: 20px; }" +
+            ".header { background-color: %s; color: white; padding: 20px; text-align: center; }" +
+            ".content { padding: 20px; background-color: #f9f9f9; }" +
+            "</style></head><body>" +
+            "<div class=\"container\">" +
+            "<div class=\"header\"><h1>%s</h1></div>" +
+            "<div class=\"content\">" +
+            "<p>Hello %s,</p>" +
+            "<p>The following bookings %s:</p>" +
+            "<ul>%s</ul>" +
+            "%s" +
+            "<p>Thank you for using CRCS!</p>" +
+            "<p>Best regards,<br>The CRCS Team</p>" +
+            "</div></div></body></html>",
+            approved ? "#4CAF50" : "#f44336",
+            approved ? "Bookings Confirmed" : "Bookings Not Approved",
+            HtmlUtils.htmlEscape(customerName), outcome(), list,
+            reason != null && !reason.isEmpty() ? "<p><strong>Note:</strong> " + HtmlUtils.htmlEscape(reason) + "</p>" : ""
+        );
+    }
+
+    @Override
+    public String getEmailSubject() { return subject; }
+    @Override
+    public String getEmailTextBody() { return textBody; }
+    @Override
+    public String getEmailHtmlBody() { return htmlBody; }
+    @Override
+    public List<String> getAttachments() { return attachments; }
+    @Override
+    public List<String> getEmailTo() { return emailTo; }
+    @Override
+    public List<String> getEmailCc() { return emailCc; }
+    @Override
+    public List<String> getEmailBcc() { return emailBcc; }
+    @Override
+    public String getEmailFrom() { return emailFrom; }
+}
@@ -19,6 +19,7 @@ public class EmailTemplateRegistry {
         registerTemplate("BOOKING_REQUEST_SUBMITTED", new EmailTemplateBookingRequestSubmitted());
         registerTemplate("BOOKING_CANCELLED", new EmailTemplateBookingCancelled());
         registerTemplate("RESOURCE_AVAILABLE", new EmailTemplateResourceAvailable());
+        registerTemplate("BOOKINGS_DECIDED", new EmailTemplateBookingsDecided());
         logger.info("Email template registry initialized with {} templates", templates.size());
     }
 
@@ -4,6 +4,7 @@ import com.crcs.common.dto.notification.Notification;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 public class EmailTemplateResourceAvailable implements EmailTemplateInterface {
     private String subject;
@@ -16,6 +17,8 @@ public class EmailTemplateResourceAvailable implements EmailTemplateInterface {
     private List<String> attachments;
     private String customerName;
     private String resourceName;
+    /** Set when a waitlisted slot was turned into a booking request for the user. */
+    private String slot;
 
     @Override
     public void setNotification(Notification notification) {
@@ -27,6 +30,10 @@ public class EmailTemplateResourceAvailable implements EmailTemplateInterface {
         this.resourceName = notification.getData().getMetadata() != null 
                 ? notification.getData().getMetadata().getOrDefault("resourceName", "Resource")
                 : "Resource";
+        Map<String, String> metadata = notification.getData().getMetadata();
+        this.slot = metadata != null && metadata.get("startTime") != null && metadata.get("endTime") != null
+                ? metadata.get("startTime") + " - " + metadata.get("endTime")
+                : null;
         
         this.emailFrom = notification.getCommunicationParams().getFromEmail();
         if (this.emailFrom == null || this.emailFrom.isEmpty()) {
@@ -44,6 +51,16 @@ public class EmailTemplateResourceAvailable implements EmailTemplateInterface {
     }
 
     private String buildTextBody() {
+        if (slot != null) {
+            return String.format(
+                "Hello %s,\n\n" +
+                "The time slot you were waitlisted for on %s (%s) has freed up.\n\n" +
+                "A booking request has been created for you and is pending approval.\n\n" +
+                "Best regards,\n" +
+                "The CRCS Team",
+                customerName, resourceName, slot
+            );
+        }
         return String.format(
             "Hello %s,\n\n" +
             "The resource %s is now available for booking.\n\n" +
@@ -66,11 +83,17 @@ public class EmailTemplateResourceAvailable implements EmailTemplateInterface {
             "<div class=\"header\"><h1>Resource Available</h1></div>" +
             "<div class=\"content\">" +
             "<p>Hello %s,</p>" +
-            "<p>The resource <strong>%s</strong> is now available for booking.</p>" +
-            "<p>You can book it through the CRCS system.</p>" +
+            "<p>%s</p>" +
+            "<p>%s</p>" +
             "<p>Best regards,<br>The CRCS Team</p>" +
             "</div></div></body></html>",
-            customerName, resourceName
+            customerName,
+            slot != null
+                ? "The time slot you were waitlisted for on <strong>" + resourceName + "</strong> (" + slot + ") has freed up."
+                : "The resource <strong>" + resourceName + "</strong> is now available for booking.",
+            slot != null
+                ? "A booking request has been created for you and is pending approval."
+                : "You can book it through the CRCS system."
         );
     }
 
@@ -4,9 +4,11 @@ import com.crcs.common.config.DotenvLoader;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ComponentScan(basePackages = {"com.crcs.resourceservice", "com.crcs.kafka"})
+@EnableScheduling
 public class ResourceServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,52 @@
+package com.crcs.resourceservice.bulk;
+
+import java.util.Locale;
+
+/**
+ * Wire formats for bulk resource import and export.
+ */
+public enum BulkFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    BulkFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static BulkFormat fromString(String value) {
+        if (value != null) {
+            for (BulkFormat format : values()) {
+                if (format.name().equalsIgnoreCase(value.trim())) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unsupported format: " + value + ". Use csv or ndjson");
+    }
+
+    /**
+     * Format for a request Content-Type such as {@code text/csv; charset=UTF-8}.
+     */
+    public static BulkFormat fromContentType(String contentType) {
+        String base = contentType == null ? "" : contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        for (BulkFormat format : values()) {
+            if (format.mediaType.equals(base)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported Content-Type: " + contentType
+                + ". Use text/csv or application/x-ndjson");
+    }
+}
@@ -0,0 +1,101 @@
+package com.crcs.resourceservice.bulk;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental RFC 4180 CSV reader: one record per call, so an upload is never held in memory.
+ * Quoted fields may contain commas, doubled quotes and line breaks. Blank lines are skipped.
+ */
+public class CsvRecordReader {
+    private final Reader reader;
+    private int line;
+    private int recordLine;
+
+    /**
+     * @param reader should be buffered; it is read one character at a time
+     */
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * The next record's fields, or null at end of input.
+     *
+     * @throws IllegalArgumentException if the input ends inside a quoted field
+     */
+    public List<String> readRecord() throws IOException {
+        int c = reader.read();
+        while (c == '\r' || c == '\n') {
+            if (c == '\n') {
+                line++;
+            }
+            c = reader.read();
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line + 1;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field in record starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                    field.append('"');
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    /**
+     * 1-based line on which the record last returned by {@link #readRecord()} started.
+     */
+    public int recordLine() {
+        return recordLine;
+    }
+
+    /**
+     * Quote a value for a CSV field if it contains a delimiter, quote or line break.
+     */
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,76 @@
+package com.crcs.resourceservice.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of resources as serialized JSON, keyed by resource id. Holding bytes
+ * rather than DTOs lets {@code GET /resources/{id}} answer a hit without touching JPA or
+ * Jackson. Entries also expire after a TTL, which bounds staleness from writes made by other
+ * resource-service instances.
+ */
+@Component
+public class ResourceJsonCache {
+
+    private final long ttlMs;
+    private final Map<String, Entry> entries;
+
+    private record Entry(byte[] json, long expiresAt) {
+    }
+
+    public ResourceJsonCache(@Value("${resource.cache.max-entries:10000}") int maxEntries,
+                             @Value("${resource.cache.ttl-ms:60000}") long ttlMs) {
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Cached JSON for the resource, or null on a miss or expired entry.
+     */
+    public byte[] get(String id) {
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() < System.currentTimeMillis()) {
+                entries.remove(id);
+                return null;
+            }
+            return entry.json();
+        }
+    }
+
+    public void put(String id, byte[] json) {
+        synchronized (entries) {
+            entries.put(id, new Entry(json, System.currentTimeMillis() + ttlMs));
+        }
+    }
+
+    /**
+     * Cache a value loaded on a read miss. A concurrent write-through wins, so a slow read
+     * cannot overwrite a newer value.
+     */
+    public void putIfAbsent(String id, byte[] json) {
+        synchronized (entries) {
+            Entry existing = entries.get(id);
+            if (existing == null || existing.expiresAt() < System.currentTimeMillis()) {
+                entries.put(id, new Entry(json, System.currentTimeMillis() + ttlMs));
+            }
+        }
+    }
+
+    public void invalidate(String id) {
+        synchronized (entries) {
+            entries.remove(id);
+        }
+    }
+}
@@ -1,29 +1,43 @@
 package com.crcs.resourceservice.controller;
 
+import com.crcs.resourceservice.bulk.BulkFormat;
 import com.crcs.resourceservice.dto.request.CreateResourceRequestDTO;
+import com.crcs.resourceservice.dto.request.ResourceSearchCriteria;
 import com.crcs.resourceservice.dto.request.UpdateResourceRequestDTO;
 import com.crcs.resourceservice.dto.response.ApiResponseDTO;
-import com.crcs.resourceservice.dto.response.PageResponseDTO;
+import com.crcs.resourceservice.dto.response.ImportResultDTO;
 import com.crcs.resourceservice.dto.response.ResourceResponseDTO;
 import com.crcs.resourceservice.model.Resource;
+import com.crcs.resourceservice.service.ResourceBulkService;
 import com.crcs.resourceservice.service.ResourceService;
+import com.crcs.common.pagination.PageResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 import java.util.Optional;
 
 @RestController
 @RequestMapping("/resources")
 @Tag(name = "Resource Management", description = "APIs for managing campus resources")
 public class ResourceController {
+    static final int MAX_BATCH_IDS = 100;
+
     private final ResourceService resourceService;
+    private final ResourceBulkService resourceBulkService;
 
-    public ResourceController(ResourceService resourceService) {
+    public ResourceController(ResourceService resourceService, ResourceBulkService resourceBulkService) {
         this.resourceService = resourceService;
+        this.resourceBulkService = resourceBulkService;
     }
 
     @Operation(summary = "Create a new resource", description = "Create a new resource (room, lab, or equipment)")
@@ -33,20 +47,87 @@ public class ResourceController {
         return ResponseEntity.status(HttpStatus.CREATED).body(resource);
     }
 
+    @Operation(summary = "Bulk import resources", description = "Create resources from a CSV (header row: name,type,description,location,capacity,ownerId,responsiblePerson) or NDJSON upload, streamed and saved in batches; invalid rows are skipped and reported")
+    @PostMapping(value = "/manage/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportResultDTO> importResources(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        BulkFormat format = BulkFormat.fromContentType(contentType);
+        return ResponseEntity.ok(resourceBulkService.importResources(body, format));
+    }
+
+    @Operation(summary = "Bulk export resources", description = "Stream every resource as CSV or NDJSON (format=csv|ndjson), newest first")
+    @GetMapping("/manage/export")
+    public ResponseEntity<StreamingResponseBody> exportResources(
+            @RequestParam(value = "format", defaultValue = "csv") String format) {
+        BulkFormat bulkFormat = BulkFormat.fromString(format);
+        StreamingResponseBody body = out -> resourceBulkService.exportResources(out, bulkFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(bulkFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"resources." + bulkFormat.getFileExtension() + "\"")
+                .body(body);
+    }
+
+    @Operation(summary = "Search resources", description = "Filter resources by type, status, minimum capacity, location prefix and free text on name/description; newest first with cursor paging")
+    @GetMapping("/search")
+    public ResponseEntity<PageResponseDTO<ResourceResponseDTO>> searchResources(
+            @RequestParam(value = "type", required = false) Resource.ResourceType type,
+            @RequestParam(value = "status", required = false) Resource.ResourceStatus status,
+            @RequestParam(value = "minCapacity", required = false) Integer minCapacity,
+            @RequestParam(value = "location", required = false) String locationPrefix,
+            @RequestParam(value = "q", required = false) String text,
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal) {
+        ResourceSearchCriteria criteria = ResourceSearchCriteria.builder()
+                .type(type)
+                .status(status)
+                .minCapacity(minCapacity)
+                .locationPrefix(locationPrefix)
+                .text(text)
+                .build();
+        return ResponseEntity.ok(resourceService.searchResources(criteria, size, cursor, includeTotal));
+    }
+
+    @Operation(summary = "Full-text resource search", description = "Rank resources by relevance of name, description and location to the query (BM25, prefix matching)")
+    @GetMapping("/search/text")
+    public ResponseEntity<List<ResourceResponseDTO>> searchResourcesByText(
+            @RequestParam("q") String query,
+            @RequestParam(value = "type", required = false) Resource.ResourceType type,
+            @RequestParam(value = "status", required = false) Resource.ResourceStatus status,
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return ResponseEntity.ok(resourceService.searchResourcesByText(query, type, status, limit));
+    }
+
+    @Operation(summary = "Get resources by IDs", description = "Look up to 100 resources in one call, e.g. to label a page of bookings. Unknown IDs are left out")
+    @GetMapping("/batch")
+    public ResponseEntity<?> getResourcesByIds(@RequestParam("ids") List<String> ids) {
+        if (ids.size() > MAX_BATCH_IDS) {
+            return ResponseEntity.badRequest().body(new ApiResponseDTO("At most " + MAX_BATCH_IDS + " ids per request"));
+        }
+        return ResponseEntity.ok(resourceService.getResourcesByIds(ids));
+    }
+
     @Operation(summary = "Get resource by ID", description = "Retrieve a specific resource by its ID")
     @GetMapping("/{id}")
     public ResponseEntity<?> getResourceById(@PathVariable("id") String id) {
-        Optional<ResourceResponseDTO> resource = resourceService.getResourceById(id);
-        return resource.map(ResponseEntity::ok)
+        // Pre-serialized JSON from the resource cache; written as-is, without Jackson
+        Optional<byte[]> resource = resourceService.getResourceJson(id);
+        return resource.<ResponseEntity<?>>map(json -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(json))
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "Get all resources", description = "Retrieve all resources with pagination")
+    @Operation(summary = "Get all resources", description = "Retrieve all resources, newest first. Pass the previous page's nextCursor as cursor for constant-cost paging; includeTotal controls the COUNT query")
     @GetMapping
     public ResponseEntity<PageResponseDTO<ResourceResponseDTO>> getAllResources(
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "10") int size) {
-        PageResponseDTO<ResourceResponseDTO> resources = resourceService.getAllResources(page, size);
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "includeTotal", required = false) Boolean includeTotal) {
+        PageResponseDTO<ResourceResponseDTO> resources = resourceService.getAllResources(page, size, cursor, includeTotal);
         return ResponseEntity.ok(resources);
     }
 
@@ -55,8 +136,10 @@ public class ResourceController {
     public ResponseEntity<PageResponseDTO<ResourceResponseDTO>> getResourcesByType(
             @PathVariable("type") Resource.ResourceType type,
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "10") int size) {
-        PageResponseDTO<ResourceResponseDTO> resources = resourceService.getResourcesByType(type, page, size);
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "includeTotal", required = false) Boolean includeTotal) {
+        PageResponseDTO<ResourceResponseDTO> resources = resourceService.getResourcesByType(type, page, size, cursor, includeTotal);
         return ResponseEntity.ok(resources);
     }
 
@@ -64,8 +147,10 @@ public class ResourceController {
     @GetMapping("/available")
     public ResponseEntity<PageResponseDTO<ResourceResponseDTO>> getAvailableResources(
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "10") int size) {
-        PageResponseDTO<ResourceResponseDTO> resources = resourceService.getAvailableResources(page, size);
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "includeTotal", required = false) Boolean includeTotal) {
+        PageResponseDTO<ResourceResponseDTO> resources = resourceService.getAvailableResources(page, size, cursor, includeTotal);
         return ResponseEntity.ok(resources);
     }
 
@@ -0,0 +1,24 @@
+package com.crcs.resourceservice.dto.request;
+
+import com.crcs.resourceservice.model.Resource;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Filters for {@code GET /resources/search}. Every field is optional; set fields are ANDed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceSearchCriteria {
+    private Resource.ResourceType type;
+    private Resource.ResourceStatus status;
+    private Integer minCapacity;
+    /** Matches locations starting with this text (case-insensitive under the default collation). */
+    private String locationPrefix;
+    /** Free text matched as a substring of name or description. */
+    private String text;
+}
@@ -0,0 +1,28 @@
+package com.crcs.resourceservice.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. {@code errors} lists the first rejected rows by input line;
+ * {@code failed} counts all of them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDTO {
+    private int imported;
+    private int failed;
+    private List<RowError> errors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int line;
+        private String message;
+    }
+}
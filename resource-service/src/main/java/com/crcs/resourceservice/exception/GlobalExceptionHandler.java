@@ -3,6 +3,7 @@ package com.crcs.resourceservice.exception;
 import com.crcs.resourceservice.dto.response.ApiResponseDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -30,6 +31,13 @@ public class GlobalExceptionHandler {
                 .body(new ApiResponseDTO(message));
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponseDTO> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        logger.warn("Concurrent modification: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ApiResponseDTO("The resource was modified concurrently. Reload it and retry."));
+    }
+
     @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
     public ResponseEntity<ApiResponseDTO> handleHttpMediaTypeNotSupported(HttpMediaTypeNotSupportedException e) {
         logger.warn("Unsupported media type: {}", e.getMessage());
@@ -9,7 +9,14 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "resources")
+@Table(name = "resources", indexes = {
+        @Index(name = "idx_resources_created", columnList = "created_at, id"),
+        @Index(name = "idx_resources_type_created", columnList = "type, created_at, id"),
+        @Index(name = "idx_resources_status_created", columnList = "status, created_at, id"),
+        @Index(name = "idx_resources_type_status_capacity", columnList = "type, status, capacity"),
+        @Index(name = "idx_resources_status_capacity", columnList = "status, capacity"),
+        @Index(name = "idx_resources_location", columnList = "location")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -51,6 +58,15 @@ public class Resource {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * Incremented on every update; orders ResourceChangedEvents and guards against lost updates.
+     * Null only before the first persist, which is how Spring Data tells a new resource (with its
+     * pre-assigned id) from an existing one without selecting it first.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,21 @@
+package com.crcs.resourceservice.repository;
+
+import com.crcs.resourceservice.model.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Oldest unsent messages, in write order, locked until the caller's transaction ends. A
+     * second instance relaying at the same time waits instead of sending the same rows out of
+     * order.
+     */
+    @Query(value = "SELECT * FROM resource_outbox ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<OutboxEvent> lockOldest(@Param("limit") int limit);
+}
@@ -4,16 +4,46 @@ import com.crcs.resourceservice.model.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ResourceRepository extends JpaRepository<Resource, String> {
+public interface ResourceRepository extends JpaRepository<Resource, String>, ResourceSearchRepository {
     Optional<Resource> findById(String id);
     Page<Resource> findByType(Resource.ResourceType type, Pageable pageable);
     Page<Resource> findByStatus(Resource.ResourceStatus status, Pageable pageable);
     Page<Resource> findByTypeAndStatus(Resource.ResourceType type, Resource.ResourceStatus status, Pageable pageable);
     List<Resource> findByOwnerId(String ownerId);
+    List<Resource> findByUpdatedAtAfter(LocalDateTime updatedAt);
+
+    @Query("SELECT r.id FROM Resource r")
+    List<String> findAllIds();
+
+    /**
+     * Keyset page ordered by (createdAt DESC, id DESC): rows strictly after the cursor position,
+     * or from the start when the cursor is null. Null type/status means no filter. Returns a
+     * List so Spring Data does not issue a COUNT query.
+     */
+    @Query("SELECT r FROM Resource r " +
+           "WHERE (:type IS NULL OR r.type = :type) " +
+           "AND (:status IS NULL OR r.status = :status) " +
+           "AND (:cursorCreatedAt IS NULL OR r.createdAt < :cursorCreatedAt " +
+           "     OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+           "ORDER BY r.createdAt DESC, r.id DESC")
+    List<Resource> findPage(@Param("type") Resource.ResourceType type,
+                            @Param("status") Resource.ResourceStatus status,
+                            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                            @Param("cursorId") String cursorId,
+                            Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM Resource r " +
+           "WHERE (:type IS NULL OR r.type = :type) " +
+           "AND (:status IS NULL OR r.status = :status)")
+    long countFiltered(@Param("type") Resource.ResourceType type,
+                       @Param("status") Resource.ResourceStatus status);
 }
@@ -0,0 +1,21 @@
+package com.crcs.resourceservice.repository;
+
+import com.crcs.common.pagination.PageCursor;
+import com.crcs.resourceservice.dto.request.ResourceSearchCriteria;
+import com.crcs.resourceservice.model.Resource;
+
+import java.util.List;
+
+/**
+ * Dynamic multi-criteria search over resources, implemented by {@link ResourceSearchRepositoryImpl}.
+ */
+public interface ResourceSearchRepository {
+
+    /**
+     * Up to {@code limit} resources matching the criteria, ordered by (createdAt DESC, id DESC)
+     * and starting after {@code after} when it is non-null.
+     */
+    List<Resource> search(ResourceSearchCriteria criteria, PageCursor after, int limit);
+
+    long countSearch(ResourceSearchCriteria criteria);
+}
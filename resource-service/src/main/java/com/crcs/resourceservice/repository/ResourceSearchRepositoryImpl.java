@@ -0,0 +1,132 @@
+package com.crcs.resourceservice.repository;
+
+import com.crcs.common.pagination.PageCursor;
+import com.crcs.resourceservice.dto.request.ResourceSearchCriteria;
+import com.crcs.resourceservice.model.Resource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the search SQL from whichever filters are set. Equality filters come first so the
+ * predicate order lines up with the composite indexes, and {@link #chooseIndex} hints the index
+ * whose leading columns match the filters best:
+ * <ul>
+ *   <li>type + status + minCapacity: {@code idx_resources_type_status_capacity} (two equalities, one range)</li>
+ *   <li>status + minCapacity: {@code idx_resources_status_capacity}</li>
+ *   <li>location prefix without type/status: {@code idx_resources_location} (prefix range scan)</li>
+ *   <li>type or status alone: the {@code (filter, created_at, id)} index, which also yields the sort order</li>
+ *   <li>nothing selective: {@code idx_resources_created}, an ordered scan that stops after one page</li>
+ * </ul>
+ * Free text is a substring match and can't use a B-tree index, so it is only ever a residual filter.
+ */
+public class ResourceSearchRepositoryImpl implements ResourceSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${resource.search.index-hints:true}")
+    private boolean indexHints;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Resource> search(ResourceSearchCriteria criteria, PageCursor after, int limit) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        List<String> predicates = buildPredicates(criteria, params);
+        if (after != null) {
+            predicates.add("(r.created_at < :cursorCreatedAt OR (r.created_at = :cursorCreatedAt AND r.id < :cursorId))");
+            params.put("cursorCreatedAt", after.createdAt());
+            params.put("cursorId", after.id());
+        }
+
+        StringBuilder sql = new StringBuilder("SELECT r.* FROM resources r");
+        if (indexHints) {
+            sql.append(" USE INDEX (").append(chooseIndex(criteria)).append(')');
+        }
+        appendWhere(sql, predicates);
+        sql.append(" ORDER BY r.created_at DESC, r.id DESC LIMIT :limit");
+        params.put("limit", limit);
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Resource.class);
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public long countSearch(ResourceSearchCriteria criteria) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        List<String> predicates = buildPredicates(criteria, params);
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM resources r");
+        appendWhere(sql, predicates);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    static String chooseIndex(ResourceSearchCriteria criteria) {
+        boolean type = criteria.getType() != null;
+        boolean status = criteria.getStatus() != null;
+        boolean capacity = criteria.getMinCapacity() != null;
+        boolean location = StringUtils.isNotBlank(criteria.getLocationPrefix());
+
+        if (type && status && capacity) {
+            return "idx_resources_type_status_capacity";
+        }
+        if (status && capacity && !type) {
+            return "idx_resources_status_capacity";
+        }
+        if (location && !type && !status) {
+            return "idx_resources_location";
+        }
+        if (type) {
+            return "idx_resources_type_created";
+        }
+        if (status) {
+            return "idx_resources_status_created";
+        }
+        return "idx_resources_created";
+    }
+
+    private static List<String> buildPredicates(ResourceSearchCriteria criteria, Map<String, Object> params) {
+        List<String> predicates = new ArrayList<>();
+        if (criteria.getType() != null) {
+            predicates.add("r.type = :type");
+            params.put("type", criteria.getType().name());
+        }
+        if (criteria.getStatus() != null) {
+            predicates.add("r.status = :status");
+            params.put("status", criteria.getStatus().name());
+        }
+        if (criteria.getMinCapacity() != null) {
+            predicates.add("r.capacity >= :minCapacity");
+            params.put("minCapacity", criteria.getMinCapacity());
+        }
+        if (StringUtils.isNotBlank(criteria.getLocationPrefix())) {
+            predicates.add("r.location LIKE :locationPrefix");
+            params.put("locationPrefix", escapeLike(criteria.getLocationPrefix().trim()) + "%");
+        }
+        if (StringUtils.isNotBlank(criteria.getText())) {
+            predicates.add("(r.name LIKE :text OR r.description LIKE :text)");
+            params.put("text", "%" + escapeLike(criteria.getText().trim()) + "%");
+        }
+        return predicates;
+    }
+
+    private static void appendWhere(StringBuilder sql, List<String> predicates) {
+        if (!predicates.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", predicates));
+        }
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
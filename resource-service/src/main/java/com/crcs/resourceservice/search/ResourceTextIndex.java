@@ -0,0 +1,305 @@
+package com.crcs.resourceservice.search;
+
+import com.crcs.resourceservice.model.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over resource name, description and location, ranked with BM25.
+ * Terms are kept in a sorted map so a query token also matches every indexed term it is a
+ * prefix of ("chem" finds "chemistry"). Name terms count double, since a match in the name
+ * says more than one in the description.
+ *
+ * <p>Reads take a shared lock and writes an exclusive one; updates are per document, so the
+ * index can be maintained incrementally as resources change.
+ */
+@Component
+public class ResourceTextIndex {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+    static final int NAME_BOOST = 2;
+    /** Prefix expansions considered per query token; keeps short prefixes like "a" cheap. */
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+    /** Prefix matches score below exact matches of the same term. */
+    static final double PREFIX_MATCH_WEIGHT = 0.5;
+
+    private static final int SNAPSHOT_MAGIC = 0x43525449; // "CRTI"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    /** term -> (resourceId -> weighted term frequency) */
+    private final NavigableMap<String, Map<String, Integer>> postings = new TreeMap<>();
+    /** resourceId -> (term -> weighted term frequency), needed to remove a document's old terms */
+    private final Map<String, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<String, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Hit(String resourceId, double score) {
+    }
+
+    /**
+     * Lower-cases and splits on anything that is not a letter or digit, so "3rd-floor" yields
+     * "3rd" and "floor".
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean wordChar = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(lower.substring(start, i));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Add or replace a resource's document.
+     */
+    public void index(Resource resource) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (String token : tokenize(resource.getName())) {
+            terms.merge(token, NAME_BOOST, Integer::sum);
+        }
+        for (String token : tokenize(resource.getDescription())) {
+            terms.merge(token, 1, Integer::sum);
+        }
+        for (String token : tokenize(resource.getLocation())) {
+            terms.merge(token, 1, Integer::sum);
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(resource.getId());
+            putLocked(resource.getId(), terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String resourceId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(resourceId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop documents whose ids are not in {@code liveIds}, e.g. resources deleted by another
+     * instance while a snapshot was on disk.
+     */
+    public void retainOnly(Set<String> liveIds) {
+        lock.writeLock().lock();
+        try {
+            new ArrayList<>(documents.keySet()).stream()
+                    .filter(id -> !liveIds.contains(id))
+                    .forEach(this::removeLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Top {@code limit} resources for the query by BM25 score. Each query token contributes its
+     * best-scoring match per document: the exact term, or a term it is a prefix of.
+     */
+    public List<Hit> search(String query, int limit) {
+        List<String> queryTokens = tokenize(query);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<String, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int n = documents.size();
+            if (n == 0) {
+                return List.of();
+            }
+            double avgLength = (double) totalLength / n;
+            for (String token : queryTokens) {
+                Map<String, Double> best = new HashMap<>();
+                int expansions = 0;
+                for (Map.Entry<String, Map<String, Integer>> term
+                        : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                    double weight = term.getKey().equals(token) ? 1.0 : PREFIX_MATCH_WEIGHT;
+                    Map<String, Integer> docs = term.getValue();
+                    double idf = Math.log(1 + (n - docs.size() + 0.5) / (docs.size() + 0.5));
+                    for (Map.Entry<String, Integer> doc : docs.entrySet()) {
+                        int tf = doc.getValue();
+                        double norm = K1 * (1 - B + B * documentLengths.get(doc.getKey()) / avgLength);
+                        double score = weight * idf * tf * (K1 + 1) / (tf + norm);
+                        best.merge(doc.getKey(), score, Math::max);
+                    }
+                    if (++expansions >= MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                }
+                best.forEach((id, score) -> scores.merge(id, score, Double::sum));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        PriorityQueue<Hit> top = new PriorityQueue<>((a, b) -> Double.compare(a.score(), b.score()));
+        scores.forEach((id, score) -> {
+            top.add(new Hit(id, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort((a, b) -> Double.compare(b.score(), a.score()));
+        return hits;
+    }
+
+    /**
+     * Write every document's term frequencies to {@code path} (atomically, via a temp file).
+     * Postings are rebuilt from these on load.
+     */
+    public void writeSnapshot(Path path, long takenAtMillis) throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(takenAtMillis);
+            out.writeInt(documents.size());
+            for (Map.Entry<String, Map<String, Integer>> doc : documents.entrySet()) {
+                writeString(out, doc.getKey());
+                out.writeInt(doc.getValue().size());
+                for (Map.Entry<String, Integer> term : doc.getValue().entrySet()) {
+                    writeString(out, term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Replace the index contents with a snapshot, reading it through a memory-mapped buffer.
+     *
+     * @return the time the snapshot was taken, so callers can re-index anything changed since
+     * @throws IOException if the file is missing, truncated or from another format version
+     */
+    public long loadSnapshot(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Unrecognised text index snapshot: " + path);
+            }
+            long takenAt = buffer.getLong();
+            int docCount = buffer.getInt();
+            Map<String, Map<String, Integer>> loaded = new HashMap<>(docCount * 2);
+            for (int i = 0; i < docCount; i++) {
+                String id = readString(buffer);
+                int termCount = buffer.getInt();
+                Map<String, Integer> terms = new HashMap<>(termCount * 2);
+                for (int t = 0; t < termCount; t++) {
+                    terms.put(readString(buffer), buffer.getInt());
+                }
+                loaded.put(id, terms);
+            }
+            lock.writeLock().lock();
+            try {
+                postings.clear();
+                documents.clear();
+                documentLengths.clear();
+                totalLength = 0;
+                loaded.forEach(this::putLocked);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return takenAt;
+        } catch (RuntimeException e) {
+            // BufferUnderflowException and friends: treat a damaged file like a missing one
+            throw new IOException("Corrupt text index snapshot: " + path, e);
+        }
+    }
+
+    private void putLocked(String id, Map<String, Integer> terms) {
+        int length = 0;
+        for (Map.Entry<String, Integer> term : terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), k -> new HashMap<>()).put(id, term.getValue());
+            length += term.getValue();
+        }
+        documents.put(id, terms);
+        documentLengths.put(id, length);
+        totalLength += length;
+    }
+
+    private void removeLocked(String id) {
+        Map<String, Integer> terms = documents.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<String, Integer> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(id);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        Integer length = documentLengths.remove(id);
+        totalLength -= length != null ? length : 0;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,92 @@
+package com.crcs.resourceservice.search;
+
+import com.crcs.resourceservice.model.Resource;
+import com.crcs.resourceservice.repository.ResourceRepository;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Builds the {@link ResourceTextIndex} at startup and, when a snapshot path is configured,
+ * persists it on shutdown. A restart with a snapshot loads it and then only re-indexes
+ * resources updated since it was taken and drops ones deleted meanwhile, instead of
+ * re-tokenizing the whole table.
+ */
+@Component
+public class ResourceTextIndexLoader {
+    private static final Logger logger = LoggerFactory.getLogger(ResourceTextIndexLoader.class);
+    private static final int BATCH_SIZE = 1000;
+    /** Re-index a little before the snapshot time to cover clock skew with the database. */
+    private static final long SNAPSHOT_OVERLAP_SECONDS = 60;
+
+    private final ResourceTextIndex textIndex;
+    private final ResourceRepository resourceRepository;
+    private final Path snapshotPath;
+
+    public ResourceTextIndexLoader(ResourceTextIndex textIndex, ResourceRepository resourceRepository,
+                                   @Value("${resource.text-index.snapshot-path:}") String snapshotPath) {
+        this.textIndex = textIndex;
+        this.resourceRepository = resourceRepository;
+        this.snapshotPath = StringUtils.isNotBlank(snapshotPath) ? Path.of(snapshotPath) : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.currentTimeMillis();
+        if (snapshotPath != null && Files.exists(snapshotPath)) {
+            try {
+                long takenAt = textIndex.loadSnapshot(snapshotPath);
+                LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(takenAt), ZoneId.systemDefault())
+                        .minusSeconds(SNAPSHOT_OVERLAP_SECONDS);
+                List<Resource> changed = resourceRepository.findByUpdatedAtAfter(since);
+                changed.forEach(textIndex::index);
+                textIndex.retainOnly(new HashSet<>(resourceRepository.findAllIds()));
+                logger.info("Text index loaded from snapshot with {} resource(s), {} re-indexed, in {} ms",
+                        textIndex.size(), changed.size(), System.currentTimeMillis() - start);
+                return;
+            } catch (IOException e) {
+                logger.warn("Ignoring unusable text index snapshot {}: {}", snapshotPath, e.getMessage());
+            }
+        }
+
+        List<Resource> batch = resourceRepository.findPage(null, null, null, null, PageRequest.of(0, BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            batch.forEach(textIndex::index);
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+            Resource lastRow = batch.get(batch.size() - 1);
+            batch = resourceRepository.findPage(null, null, lastRow.getCreatedAt(), lastRow.getId(),
+                    PageRequest.of(0, BATCH_SIZE));
+        }
+        logger.info("Text index built with {} resource(s) in {} ms", textIndex.size(), System.currentTimeMillis() - start);
+    }
+
+    @PreDestroy
+    public void saveSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        try {
+            textIndex.writeSnapshot(snapshotPath, System.currentTimeMillis());
+            logger.info("Text index snapshot written to {}", snapshotPath);
+        } catch (IOException e) {
+            logger.warn("Failed to write text index snapshot to {}", snapshotPath, e);
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.crcs.resourceservice.service;
+
+import com.crcs.resourceservice.bulk.BulkFormat;
+import com.crcs.resourceservice.bulk.CsvRecordReader;
+import com.crcs.resourceservice.dto.request.CreateResourceRequestDTO;
+import com.crcs.resourceservice.dto.response.ImportResultDTO;
+import com.crcs.resourceservice.model.Resource;
+import com.crcs.resourceservice.repository.ResourceRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming bulk import and export of resources. Imports are parsed one row at a time and
+ * saved in chunks of {@code resource.import.batch-size}, each in its own transaction, so a
+ * bad chunk does not undo earlier ones and memory stays flat however large the upload is.
+ * Exports walk the table in keyset batches and write each row straight to the response.
+ */
+@Service
+public class ResourceBulkService {
+    private static final Logger logger = LoggerFactory.getLogger(ResourceBulkService.class);
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int EXPORT_BATCH_SIZE = 1000;
+    private static final List<String> CSV_COLUMNS = List.of(
+            "id", "name", "type", "description", "status", "location", "capacity",
+            "ownerId", "responsiblePerson", "createdAt", "updatedAt");
+    private static final Set<String> CSV_IMPORT_COLUMNS = Set.of(
+            "name", "type", "description", "location", "capacity", "ownerId", "responsiblePerson");
+
+    private final ResourceService resourceService;
+    private final ResourceRepository resourceRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+
+    public ResourceBulkService(ResourceService resourceService, ResourceRepository resourceRepository,
+                               EntityManager entityManager, Validator validator, ObjectMapper objectMapper,
+                               @Value("${resource.import.batch-size:500}") int batchSize) {
+        this.resourceService = resourceService;
+        this.resourceRepository = resourceRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Import resources from CSV (header row with column names from {@link CreateResourceRequestDTO})
+     * or NDJSON (one request object per line). Invalid rows are skipped and reported; valid ones
+     * are created.
+     *
+     * @throws IllegalArgumentException if the CSV header is missing or names an unknown column
+     */
+    public ImportResultDTO importResources(InputStream body, BulkFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        ImportBatch batch = new ImportBatch();
+        if (format == BulkFormat.CSV) {
+            importCsv(reader, batch);
+        } else {
+            importNdjson(reader, batch);
+        }
+        batch.flush();
+        logger.info("Bulk import finished: {} imported, {} failed", batch.imported, batch.failed);
+        return new ImportResultDTO(batch.imported, batch.failed, batch.errors);
+    }
+
+    private void importCsv(BufferedReader reader, ImportBatch batch) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV input is empty; expected a header row");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim();
+            if (!CSV_IMPORT_COLUMNS.contains(column)) {
+                throw new IllegalArgumentException("Unknown CSV column '" + column + "'. Allowed: " + CSV_IMPORT_COLUMNS);
+            }
+            columns.put(column, i);
+        }
+
+        List<String> record;
+        while (true) {
+            try {
+                record = csv.readRecord();
+            } catch (IllegalArgumentException e) {
+                // Framing is lost after an unterminated quote; nothing after it can be trusted
+                batch.reject(csv.recordLine(), e.getMessage());
+                return;
+            }
+            if (record == null) {
+                return;
+            }
+            try {
+                batch.add(csv.recordLine(), toRequest(record, columns));
+            } catch (IllegalArgumentException e) {
+                batch.reject(csv.recordLine(), e.getMessage());
+            }
+        }
+    }
+
+    private static CreateResourceRequestDTO toRequest(List<String> record, Map<String, Integer> columns) {
+        CreateResourceRequestDTO request = new CreateResourceRequestDTO();
+        request.setName(field(record, columns, "name"));
+        String type = field(record, columns, "type");
+        if (type != null) {
+            try {
+                request.setType(Resource.ResourceType.valueOf(type.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid type '" + type + "'");
+            }
+        }
+        request.setDescription(field(record, columns, "description"));
+        request.setLocation(field(record, columns, "location"));
+        String capacity = field(record, columns, "capacity");
+        if (capacity != null) {
+            try {
+                request.setCapacity(Integer.valueOf(capacity));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid capacity '" + capacity + "'");
+            }
+        }
+        request.setOwnerId(field(record, columns, "ownerId"));
+        request.setResponsiblePerson(field(record, columns, "responsiblePerson"));
+        return request;
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        return StringUtils.trimToNull(record.get(index));
+    }
+
+    private void importNdjson(BufferedReader reader, ImportBatch batch) throws IOException {
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                batch.add(lineNumber, objectMapper.readValue(line, CreateResourceRequestDTO.class));
+            } catch (JsonProcessingException e) {
+                batch.reject(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * Write every resource, newest first, as CSV (with a header row) or NDJSON.
+     */
+    public void exportResources(OutputStream out, BulkFormat format) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == BulkFormat.CSV) {
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write('\n');
+        }
+        int exported = 0;
+        List<Resource> batch = resourceRepository.findPage(null, null, null, null, PageRequest.of(0, EXPORT_BATCH_SIZE));
+        while (!batch.isEmpty()) {
+            for (Resource resource : batch) {
+                if (format == BulkFormat.CSV) {
+                    writeCsvRow(writer, resource);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(resourceService.mapToResponseDTO(resource)));
+                    writer.write('\n');
+                }
+            }
+            exported += batch.size();
+            if (batch.size() < EXPORT_BATCH_SIZE) {
+                break;
+            }
+            Resource lastRow = batch.get(batch.size() - 1);
+            // Detach the batch so the persistence context does not grow with the export
+            entityManager.clear();
+            batch = resourceRepository.findPage(null, null, lastRow.getCreatedAt(), lastRow.getId(),
+                    PageRequest.of(0, EXPORT_BATCH_SIZE));
+        }
+        writer.flush();
+        logger.info("Bulk export finished: {} resource(s) as {}", exported, format);
+    }
+
+    private static void writeCsvRow(Writer writer, Resource resource) throws IOException {
+        writer.write(String.join(",",
+                CsvRecordReader.escape(resource.getId()),
+                CsvRecordReader.escape(resource.getName()),
+                resource.getType() != null ? resource.getType().name() : "",
+                CsvRecordReader.escape(resource.getDescription()),
+                resource.getStatus() != null ? resource.getStatus().name() : "",
+                CsvRecordReader.escape(resource.getLocation()),
+                resource.getCapacity() != null ? resource.getCapacity().toString() : "",
+                CsvRecordReader.escape(resource.getOwnerId()),
+                CsvRecordReader.escape(resource.getResponsiblePerson()),
+                resource.getCreatedAt() != null ? resource.getCreatedAt().toString() : "",
+                resource.getUpdatedAt() != null ? resource.getUpdatedAt().toString() : ""));
+        writer.write('\n');
+    }
+
+    /**
+     * Accumulates validated rows and saves them a chunk at a time.
+     */
+    private class ImportBatch {
+        private final List<CreateResourceRequestDTO> requests = new ArrayList<>();
+        private final List<Integer> lines = new ArrayList<>();
+        private final List<ImportResultDTO.RowError> errors = new ArrayList<>();
+        private int imported;
+        private int failed;
+
+        void add(int line, CreateResourceRequestDTO request) {
+            Set<ConstraintViolation<CreateResourceRequestDTO>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                reject(line, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            requests.add(request);
+            lines.add(line);
+            if (requests.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(int line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportResultDTO.RowError(line, message));
+            }
+        }
+
+        void flush() {
+            if (requests.isEmpty()) {
+                return;
+            }
+            try {
+                resourceService.createResources(requests);
+                imported += requests.size();
+            } catch (DataAccessException e) {
+                logger.warn("Bulk import chunk at lines {}-{} failed: {}", lines.get(0), lines.get(lines.size() - 1),
+                        e.getMostSpecificCause().getMessage());
+                String message = "Not saved: " + e.getMostSpecificCause().getMessage();
+                lines.forEach(line -> reject(line, message));
+            }
+            // Saved entities are not needed again; keep the persistence context from growing
+            entityManager.clear();
+            requests.clear();
+            lines.clear();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.crcs.resourceservice.service;
+
+import com.crcs.common.dto.resource.ResourceChangedEvent;
+import com.crcs.kafka.producer.KafkaEventProducer;
+import com.crcs.resourceservice.model.OutboxEvent;
+import com.crcs.resourceservice.model.Resource;
+import com.crcs.resourceservice.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes {@link ResourceChangedEvent}s keyed by resourceId through the {@code resource_outbox}
+ * table. Events are written in the transaction that changes the resource, so one exists exactly
+ * when the change committed, and a deletion is followed by a tombstone so compaction drops the
+ * key. A single relay thread per instance sends the rows in write order, right after each
+ * commit and every relay-interval-ms, and deletes them once the broker has acknowledged them;
+ * rows stay locked while they are in flight, so instances never reorder each other's sends.
+ * Delivery is at least once; consumers ignore versions they have already seen.
+ */
+@Component
+public class ResourceChangePublisher {
+    private static final Logger logger = LoggerFactory.getLogger(ResourceChangePublisher.class);
+
+    private final KafkaEventProducer kafkaEventProducer;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final String topic;
+    private final long sendTimeoutMs;
+    private final int relayBatchSize;
+    private final ExecutorService relayExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "resource-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean relayQueued = new AtomicBoolean();
+
+    public ResourceChangePublisher(KafkaEventProducer kafkaEventProducer, OutboxEventRepository outboxEventRepository,
+                                   ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                                   @Value("${kafka.resource-changed.topic:" + ResourceChangedEvent.DEFAULT_TOPIC + "}") String topic,
+                                   @Value("${resource.outbox.send-timeout-ms:5000}") long sendTimeoutMs,
+                                   @Value("${resource.outbox.relay-batch-size:500}") int relayBatchSize) {
+        this.kafkaEventProducer = kafkaEventProducer;
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.topic = topic;
+        this.sendTimeoutMs = sendTimeoutMs;
+        this.relayBatchSize = relayBatchSize;
+    }
+
+    /**
+     * Queue the change in the caller's transaction. The resource must be flushed, so that
+     * version and updatedAt are final.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishSaved(Resource resource, boolean created) {
+        write(ResourceChangedEvent.builder()
+                .changeType(created ? ResourceChangedEvent.ChangeType.CREATED : ResourceChangedEvent.ChangeType.UPDATED)
+                .resourceId(resource.getId())
+                .version(resource.getVersion())
+                .name(resource.getName())
+                .type(resource.getType() != null ? resource.getType().name() : null)
+                .status(resource.getStatus() != null ? resource.getStatus().name() : null)
+                .location(resource.getLocation())
+                .capacity(resource.getCapacity())
+                .ownerId(resource.getOwnerId())
+                .eventTime(System.currentTimeMillis())
+                .build());
+    }
+
+    /**
+     * Queue a DELETED event followed by a tombstone in the caller's transaction.
+     *
+     * @param version the deleted row's version plus one, so the deletion orders after its last update
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishDeleted(String resourceId, long version) {
+        write(ResourceChangedEvent.builder()
+                .changeType(ResourceChangedEvent.ChangeType.DELETED)
+                .resourceId(resourceId)
+                .version(version)
+                .eventTime(System.currentTimeMillis())
+                .build());
+        write(resourceId, null);
+    }
+
+    /**
+     * Safety net for rows the post-commit relay could not send (broker down, crash).
+     */
+    @Scheduled(fixedDelayString = "${resource.outbox.relay-interval-ms:30000}",
+               initialDelayString = "${resource.outbox.relay-initial-delay-ms:30000}")
+    public void relayPendingPeriodically() {
+        triggerRelay();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        relayExecutor.shutdown();
+    }
+
+    private void write(ResourceChangedEvent event) {
+        try {
+            write(event.getResourceId(), objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize " + event.getChangeType() + " for " + event.getResourceId(), e);
+        }
+    }
+
+    private void write(String resourceId, String payload) {
+        OutboxEvent row = new OutboxEvent();
+        row.setTopic(topic);
+        row.setMessageKey(resourceId);
+        row.setPayload(payload);
+        row.setCreatedAt(LocalDateTime.now());
+        outboxEventRepository.save(row);
+        // One relay trigger per transaction, however many rows it writes
+        if (!TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    triggerRelay();
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ResourceChangePublisher.this);
+                }
+            });
+        }
+    }
+
+    /** Run the relay on its thread unless a run is already queued. */
+    private void triggerRelay() {
+        if (relayQueued.compareAndSet(false, true)) {
+            relayExecutor.execute(() -> {
+                relayQueued.set(false);
+                relayPending();
+            });
+        }
+    }
+
+    private void relayPending() {
+        try {
+            Integer sent;
+            do {
+                sent = transactionTemplate.execute(status -> relayBatch());
+            } while (sent != null && sent == relayBatchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Resource outbox relay failed; pending messages are retried on the next run", e);
+        }
+    }
+
+    /**
+     * Send the oldest locked rows and delete the acknowledged prefix.
+     *
+     * @return rows sent, or -1 if a send failed (the rest wait for the next run)
+     */
+    private int relayBatch() {
+        List<OutboxEvent> rows = outboxEventRepository.lockOldest(relayBatchSize);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(rows.size());
+        List<Long> acknowledged = new ArrayList<>(rows.size());
+        long deadline = System.currentTimeMillis() + sendTimeoutMs;
+        try {
+            for (OutboxEvent row : rows) {
+                sends.add(kafkaEventProducer.sendJsonMessageAcked(row.getTopic(), row.getMessageKey(), row.getPayload()));
+            }
+            for (int i = 0; i < sends.size(); i++) {
+                sends.get(i).get(Math.max(1, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                acknowledged.add(rows.get(i).getId());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            logger.warn("Could not publish resource change {}; {} message(s) left for the next run",
+                    rows.get(acknowledged.size()).getId(), rows.size() - acknowledged.size(), e);
+        }
+        if (!acknowledged.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(acknowledged);
+            logger.debug("Published {} resource change message(s)", acknowledged.size());
+        }
+        return acknowledged.size() == rows.size() ? rows.size() : -1;
+    }
+}
@@ -1,33 +1,76 @@
 package com.crcs.resourceservice.service;
 
+import com.crcs.common.pagination.KeysetPages;
+import com.crcs.common.pagination.PageCursor;
+import com.crcs.common.pagination.PageResponseDTO;
+import com.crcs.resourceservice.cache.ResourceJsonCache;
 import com.crcs.resourceservice.dto.request.CreateResourceRequestDTO;
+import com.crcs.resourceservice.dto.request.ResourceSearchCriteria;
 import com.crcs.resourceservice.dto.request.UpdateResourceRequestDTO;
-import com.crcs.resourceservice.dto.response.PageResponseDTO;
 import com.crcs.resourceservice.dto.response.ResourceResponseDTO;
 import com.crcs.resourceservice.model.Resource;
 import com.crcs.resourceservice.repository.ResourceRepository;
-import org.springframework.data.domain.Page;
+import com.crcs.resourceservice.search.ResourceTextIndex;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class ResourceService {
+    private static final int TEXT_FILTER_OVERFETCH = 5;
+    static final int MAX_TEXT_RESULTS = 100;
     private final ResourceRepository resourceRepository;
+    private final ResourceTextIndex textIndex;
+    private final ResourceJsonCache resourceJsonCache;
+    private final ObjectMapper objectMapper;
+    private final ResourceChangePublisher resourceChangePublisher;
 
-    public ResourceService(ResourceRepository resourceRepository) {
+    public ResourceService(ResourceRepository resourceRepository, ResourceTextIndex textIndex,
+                           ResourceJsonCache resourceJsonCache, ObjectMapper objectMapper,
+                           ResourceChangePublisher resourceChangePublisher) {
         this.resourceRepository = resourceRepository;
+        this.textIndex = textIndex;
+        this.resourceJsonCache = resourceJsonCache;
+        this.objectMapper = objectMapper;
+        this.resourceChangePublisher = resourceChangePublisher;
     }
 
     @Transactional
     public ResourceResponseDTO createResource(CreateResourceRequestDTO request) {
-        Resource resource = Resource.builder()
+        Resource resource = resourceRepository.saveAndFlush(newResource(request));
+        onResourceSaved(resource, true);
+        return mapToResponseDTO(resource);
+    }
+
+    /**
+     * Create many resources in one transaction. Resources are new entities, so saveAll persists
+     * them without a select per row and Hibernate sends the inserts as JDBC batches. Imported
+     * rows are indexed and published but not put into the JSON cache: new ids have nothing
+     * stale to replace, and a large import would otherwise evict the entries actually read.
+     */
+    @Transactional
+    public int createResources(List<CreateResourceRequestDTO> requests) {
+        List<Resource> resources = resourceRepository.saveAll(requests.stream().map(this::newResource).toList());
+        resourceRepository.flush();
+        resources.forEach(resource -> resourceChangePublisher.publishSaved(resource, true));
+        afterCommit(() -> resources.forEach(textIndex::index));
+        return resources.size();
+    }
+
+    private Resource newResource(CreateResourceRequestDTO request) {
+        return Resource.builder()
                 .id(UUID.randomUUID().toString())
                 .name(request.getName())
                 .type(request.getType())
@@ -38,9 +81,26 @@ public class ResourceService {
                 .ownerId(request.getOwnerId())
                 .responsiblePerson(request.getResponsiblePerson())
                 .build();
+    }
 
-        resource = resourceRepository.save(resource);
-        return mapToResponseDTO(resource);
+    /**
+     * The resource as JSON, served from {@link ResourceJsonCache} when possible. Misses are
+     * loaded, serialized once with the application ObjectMapper and cached.
+     */
+    public Optional<byte[]> getResourceJson(String id) {
+        if (id == null || id.isBlank()) {
+            return Optional.empty();
+        }
+        byte[] cached = resourceJsonCache.get(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return resourceRepository.findById(id)
+                .map(resource -> {
+                    byte[] json = toJson(mapToResponseDTO(resource));
+                    resourceJsonCache.putIfAbsent(id, json);
+                    return json;
+                });
     }
 
     public Optional<ResourceResponseDTO> getResourceById(String id) {
@@ -51,28 +111,98 @@ public class ResourceService {
                 .map(this::mapToResponseDTO);
     }
 
-    public PageResponseDTO<ResourceResponseDTO> getAllResources(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Resource> resourcePage = resourceRepository.findAll(pageable);
-        return mapToPageResponseDTO(resourcePage);
+    /**
+     * The resources that exist among {@code ids}, in no particular order; unknown ids are skipped.
+     */
+    public List<ResourceResponseDTO> getResourcesByIds(List<String> ids) {
+        return resourceRepository.findAllById(ids)
+                .stream()
+                .map(this::mapToResponseDTO)
+                .collect(Collectors.toList());
+    }
+
+    public PageResponseDTO<ResourceResponseDTO> getAllResources(int page, int size, String cursor, Boolean includeTotal) {
+        return findPage(null, null, page, size, cursor, includeTotal);
+    }
+
+    public PageResponseDTO<ResourceResponseDTO> getResourcesByType(Resource.ResourceType type, int page, int size,
+                                                                    String cursor, Boolean includeTotal) {
+        return findPage(type, null, page, size, cursor, includeTotal);
+    }
+
+    public PageResponseDTO<ResourceResponseDTO> getResourcesByStatus(Resource.ResourceStatus status, int page, int size,
+                                                                      String cursor, Boolean includeTotal) {
+        return findPage(null, status, page, size, cursor, includeTotal);
+    }
+
+    public PageResponseDTO<ResourceResponseDTO> getAvailableResources(int page, int size, String cursor, Boolean includeTotal) {
+        return findPage(null, Resource.ResourceStatus.AVAILABLE, page, size, cursor, includeTotal);
+    }
+
+    /**
+     * Multi-criteria search, newest first, paged by cursor like the other listings. The count is
+     * run only when {@code includeTotal} is true.
+     */
+    public PageResponseDTO<ResourceResponseDTO> searchResources(ResourceSearchCriteria criteria, int size,
+                                                                String cursor, boolean includeTotal) {
+        KeysetPages.validateSize(size);
+        if (criteria.getMinCapacity() != null && criteria.getMinCapacity() < 0) {
+            throw new IllegalArgumentException("minCapacity must not be negative");
+        }
+        PageCursor after = PageCursor.decode(cursor);
+        PageResponseDTO<Resource> rows = KeysetPages.fromExtraRow(
+                resourceRepository.search(criteria, after, size + 1), size, after, ResourceService::position);
+        if (includeTotal) {
+            long totalElements = resourceRepository.countSearch(criteria);
+            rows.setTotalElements(totalElements);
+            rows.setTotalPages(KeysetPages.totalPages(totalElements, size));
+        }
+        return rows.map(this::mapToResponseDTO);
     }
 
-    public PageResponseDTO<ResourceResponseDTO> getResourcesByType(Resource.ResourceType type, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Resource> resourcePage = resourceRepository.findByType(type, pageable);
-        return mapToPageResponseDTO(resourcePage);
+    /**
+     * Ranked free-text search ("chemistry lab 3rd floor projector") over name, description and
+     * location using the in-memory index. Optional type/status filters are applied to the
+     * ranked hits, so the index is over-fetched when they are set.
+     */
+    public List<ResourceResponseDTO> searchResourcesByText(String query, Resource.ResourceType type,
+                                                           Resource.ResourceStatus status, int limit) {
+        if (limit < 1 || limit > MAX_TEXT_RESULTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_TEXT_RESULTS);
+        }
+        boolean filtered = type != null || status != null;
+        List<ResourceTextIndex.Hit> hits = textIndex.search(query, filtered ? limit * TEXT_FILTER_OVERFETCH : limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<String, Resource> byId = resourceRepository.findAllById(
+                        hits.stream().map(ResourceTextIndex.Hit::resourceId).toList())
+                .stream()
+                .collect(Collectors.toMap(Resource::getId, Function.identity()));
+        return hits.stream()
+                .map(hit -> byId.get(hit.resourceId()))
+                .filter(Objects::nonNull)
+                .filter(r -> type == null || r.getType() == type)
+                .filter(r -> status == null || r.getStatus() == status)
+                .limit(limit)
+                .map(this::mapToResponseDTO)
+                .collect(Collectors.toList());
     }
 
-    public PageResponseDTO<ResourceResponseDTO> getResourcesByStatus(Resource.ResourceStatus status, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Resource> resourcePage = resourceRepository.findByStatus(status, pageable);
-        return mapToPageResponseDTO(resourcePage);
+    private PageResponseDTO<ResourceResponseDTO> findPage(Resource.ResourceType type, Resource.ResourceStatus status,
+                                                          int page, int size, String cursor, Boolean includeTotal) {
+        return KeysetPages.load(
+                        (after, pageNumber, limit) -> resourceRepository.findPage(type, status,
+                                after != null ? after.createdAt() : null, after != null ? after.id() : null,
+                                PageRequest.of(pageNumber, limit)),
+                        () -> resourceRepository.countFiltered(type, status),
+                        ResourceService::position,
+                        page, size, cursor, includeTotal)
+                .map(this::mapToResponseDTO);
     }
 
-    public PageResponseDTO<ResourceResponseDTO> getAvailableResources(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Resource> resourcePage = resourceRepository.findByStatus(Resource.ResourceStatus.AVAILABLE, pageable);
-        return mapToPageResponseDTO(resourcePage);
+    private static PageCursor position(Resource resource) {
+        return new PageCursor(resource.getCreatedAt(), resource.getId());
     }
 
     @Transactional
@@ -88,7 +218,8 @@ public class ResourceService {
                     if (request.getOwnerId() != null) resource.setOwnerId(request.getOwnerId());
                     if (request.getResponsiblePerson() != null) resource.setResponsiblePerson(request.getResponsiblePerson());
                     
-                    resource = resourceRepository.save(resource);
+                    resource = resourceRepository.saveAndFlush(resource);
+                    onResourceSaved(resource, false);
                     return mapToResponseDTO(resource);
                 });
     }
@@ -98,7 +229,7 @@ public class ResourceService {
         return resourceRepository.findById(id)
                 .map(resource -> {
                     resource.setStatus(status);
-                    resourceRepository.save(resource);
+                    onResourceSaved(resourceRepository.saveAndFlush(resource), false);
                     return true;
                 })
                 .orElse(false);
@@ -106,11 +237,55 @@ public class ResourceService {
 
     @Transactional
     public boolean deleteResource(String id) {
-        if (resourceRepository.existsById(id)) {
-            resourceRepository.deleteById(id);
-            return true;
+        return resourceRepository.findById(id)
+                .map(resource -> {
+                    resourceRepository.delete(resource);
+                    onResourceDeleted(id, resource.getVersion() + 1);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * Queue the change event for other services in the current transaction (the resource must
+     * be flushed, so updatedAt and version are final), and keep the text index and JSON cache
+     * in step once the transaction commits and a rollback can no longer occur.
+     */
+    private void onResourceSaved(Resource resource, boolean created) {
+        resourceChangePublisher.publishSaved(resource, created);
+        afterCommit(() -> {
+            textIndex.index(resource);
+            resourceJsonCache.put(resource.getId(), toJson(mapToResponseDTO(resource)));
+        });
+    }
+
+    private void onResourceDeleted(String id, long version) {
+        resourceChangePublisher.publishDeleted(id, version);
+        afterCommit(() -> {
+            textIndex.remove(id);
+            resourceJsonCache.invalidate(id);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private byte[] toJson(ResourceResponseDTO dto) {
+        try {
+            return objectMapper.writeValueAsBytes(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize resource " + dto.getId(), e);
         }
-        return false;
     }
 
     public List<ResourceResponseDTO> getResourcesByOwner(String ownerId) {
@@ -120,7 +295,7 @@ public class ResourceService {
                 .collect(Collectors.toList());
     }
 
-    private ResourceResponseDTO mapToResponseDTO(Resource resource) {
+    ResourceResponseDTO mapToResponseDTO(Resource resource) {
         return ResourceResponseDTO.builder()
                 .id(resource.getId())
                 .name(resource.getName())
@@ -135,20 +310,4 @@ public class ResourceService {
                 .updatedAt(resource.getUpdatedAt())
                 .build();
     }
-
-    private PageResponseDTO<ResourceResponseDTO> mapToPageResponseDTO(Page<Resource> resourcePage) {
-        List<ResourceResponseDTO> content = resourcePage.getContent()
-                .stream()
-                .map(this::mapToResponseDTO)
-                .collect(Collectors.toList());
-
-        return new PageResponseDTO<>(
-                content,
-                resourcePage.getNumber(),
-                resourcePage.getSize(),
-                resourcePage.getTotalElements(),
-                resourcePage.getTotalPages(),
-                resourcePage.isLast()
-        );
-    }
 }
@@ -14,21 +14,57 @@ USE crcs_db;
 
 -- Users (auth credentials and role)
 CREATE TABLE IF NOT EXISTS users (
-  id       VARCHAR(36)  NOT NULL PRIMARY KEY,
-  email    VARCHAR(255) NOT NULL UNIQUE,
-  password VARCHAR(255) NOT NULL,
-  role     VARCHAR(50)  NOT NULL
+  id          VARCHAR(36)  NOT NULL PRIMARY KEY,
+  email       VARCHAR(255) NOT NULL UNIQUE,
+  password    VARCHAR(255) NOT NULL,
+  role        VARCHAR(50)  NOT NULL,
+  token_epoch INT          NOT NULL DEFAULT 0
 );
 
--- Refresh tokens for JWT refresh
+-- Refresh tokens for JWT refresh (stored as SHA-256 hex digest of the token)
 CREATE TABLE IF NOT EXISTS refresh_tokens (
   id         BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
   user_id    VARCHAR(36)  NOT NULL,
-  token      VARCHAR(500) NOT NULL UNIQUE,
+  token_hash CHAR(64)     NOT NULL,
   expires_at DATETIME(6)  NOT NULL,
   created_at DATETIME(6)  NOT NULL,
+  UNIQUE KEY uk_refresh_tokens_token_hash (token_hash),
   INDEX idx_refresh_tokens_user_id (user_id),
-  INDEX idx_refresh_tokens_token (token)
+  INDEX idx_refresh_tokens_expires_at (expires_at)
+);
+
+-- Migration from the raw-token layout: existing refresh tokens cannot be re-hashed
+-- server-side, so they are dropped and users simply log in again.
+-- TRUNCATE TABLE refresh_tokens;
+-- ALTER TABLE refresh_tokens
+--   DROP INDEX idx_refresh_tokens_token,
+--   DROP COLUMN token,
+--   ADD COLUMN token_hash CHAR(64) NOT NULL AFTER user_id,
+--   ADD UNIQUE KEY uk_refresh_tokens_token_hash (token_hash),
+--   ADD INDEX idx_refresh_tokens_expires_at (expires_at);
+
+-- Rotating Ed25519 JWT signing keys (public halves are served from /auth/.well-known/jwks.json).
+-- private_key is AES-GCM encrypted with SIGNING_KEY_ENCRYPTION_KEY, which is never stored here.
+CREATE TABLE IF NOT EXISTS signing_keys (
+  kid          VARCHAR(64)  NOT NULL PRIMARY KEY,
+  algorithm    VARCHAR(20)  NOT NULL,
+  public_key   VARCHAR(500) NOT NULL,
+  private_key  VARCHAR(500) NOT NULL,
+  activates_at DATETIME(6)  NOT NULL,
+  expires_at   DATETIME(6)  NOT NULL,
+  created_at   DATETIME(6)  NOT NULL,
+  INDEX idx_signing_keys_expires_at (expires_at)
+);
+
+-- Kafka messages written with the change they announce (USER_REGISTERED with the user insert),
+-- deleted once the broker acknowledged them
+CREATE TABLE IF NOT EXISTS auth_outbox (
+  id          BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  topic       VARCHAR(100) NOT NULL,
+  message_key VARCHAR(64),
+  payload     TEXT         NOT NULL,
+  created_at  DATETIME(6)  NOT NULL,
+  INDEX idx_auth_outbox_created_at (created_at)
 );
 
 -- ---------------------------------------------------------------------------
@@ -48,7 +84,8 @@ CREATE TABLE IF NOT EXISTS user_profiles (
   is_phone_verified TINYINT(1)   DEFAULT 0,
   is_active        TINYINT(1)   DEFAULT 1,
   created_at       DATETIME(6)   NOT NULL,
-  updated_at       DATETIME(6)   NOT NULL
+  updated_at       DATETIME(6)   NOT NULL,
+  INDEX idx_user_profiles_active_created (is_active, created_at, user_id)
 );
 
 -- ---------------------------------------------------------------------------
@@ -68,11 +105,26 @@ CREATE TABLE IF NOT EXISTS resources (
   responsible_person VARCHAR(255)  NULL,
   created_at         DATETIME(6)   NOT NULL,
   updated_at         DATETIME(6)   NOT NULL,
-  INDEX idx_resources_type (type),
-  INDEX idx_resources_status (status),
+  version            BIGINT        NOT NULL DEFAULT 0,
+  INDEX idx_resources_created (created_at, id),
+  INDEX idx_resources_type_created (type, created_at, id),
+  INDEX idx_resources_status_created (status, created_at, id),
+  INDEX idx_resources_type_status_capacity (type, status, capacity),
+  INDEX idx_resources_status_capacity (status, capacity),
+  INDEX idx_resources_location (location),
   INDEX idx_resources_owner_id (owner_id)
 );
 
+-- ResourceChangedEvents written with the change they announce, relayed in id order and
+-- deleted once the broker acknowledged them. A NULL payload is a tombstone.
+CREATE TABLE IF NOT EXISTS resource_outbox (
+  id          BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  topic       VARCHAR(100) NOT NULL,
+  message_key VARCHAR(64),
+  payload     TEXT,
+  created_at  DATETIME(6)  NOT NULL
+);
+
 -- ---------------------------------------------------------------------------
 -- Booking Service
 -- ---------------------------------------------------------------------------
@@ -88,9 +140,115 @@ CREATE TABLE IF NOT EXISTS bookings (
   purpose     VARCHAR(500)  NULL,
   created_at  DATETIME(6)   NOT NULL,
   updated_at  DATETIME(6)   NOT NULL,
-  INDEX idx_bookings_user_id (user_id),
-  INDEX idx_bookings_resource_id (resource_id),
-  INDEX idx_bookings_start_time (start_time),
-  INDEX idx_bookings_end_time (end_time),
-  INDEX idx_bookings_status (status)
+  INDEX idx_bookings_user_created (user_id, created_at, id),
+  INDEX idx_bookings_resource_created (resource_id, created_at, id),
+  INDEX idx_bookings_resource_time (resource_id, start_time, end_time, status),
+  INDEX idx_bookings_status_end (status, end_time, id),
+  INDEX idx_bookings_status_start (status, start_time, id),
+  INDEX idx_bookings_status_created (status, created_at, id)
+);
+
+-- Finished bookings moved out of the hot table by the lifecycle worker (booking.archive.after-days).
+-- Columns mirror bookings; keep them in step.
+CREATE TABLE IF NOT EXISTS bookings_archive (
+  id          VARCHAR(36)   NOT NULL PRIMARY KEY,
+  user_id     VARCHAR(36)   NOT NULL,
+  resource_id VARCHAR(36)   NOT NULL,
+  start_time  DATETIME(6)   NOT NULL,
+  end_time    DATETIME(6)   NOT NULL,
+  status      VARCHAR(50)   NOT NULL,
+  purpose     VARCHAR(500)  NULL,
+  created_at  DATETIME(6)   NOT NULL,
+  updated_at  DATETIME(6)   NOT NULL,
+  archived_at DATETIME(6)   NOT NULL,
+  INDEX idx_bookings_archive_user_created (user_id, created_at, id),
+  INDEX idx_bookings_archive_resource_created (resource_id, created_at, id)
 );
+
+-- Hourly utilization counters per resource, adjusted on every booking status transition
+-- (GET /bookings/analytics/utilization). Populate for existing bookings with
+-- POST /bookings/analytics/utilization/rebuild.
+CREATE TABLE IF NOT EXISTS booking_utilization (
+  resource_id     VARCHAR(36)  NOT NULL,
+  bucket_start    DATETIME(6)  NOT NULL,
+  booked_seconds  BIGINT       NOT NULL DEFAULT 0,
+  pending_seconds BIGINT       NOT NULL DEFAULT 0,
+  PRIMARY KEY (resource_id, bucket_start),
+  INDEX idx_booking_utilization_bucket (bucket_start)
+);
+
+-- Waitlist for taken slots (POST /bookings/waitlist). A cancelled booking promotes the earliest
+-- WAITING entries overlapping its slot; idx_booking_waitlist_queue keeps that lookup to one
+-- resource's future waiters. The lifecycle worker marks entries still WAITING when their slot
+-- starts as EXPIRED and deletes finished entries with the booking archive (booking.archive.after-days).
+CREATE TABLE IF NOT EXISTS booking_waitlist (
+  id          VARCHAR(36)   NOT NULL PRIMARY KEY,
+  user_id     VARCHAR(36)   NOT NULL,
+  resource_id VARCHAR(36)   NOT NULL,
+  start_time  DATETIME(6)   NOT NULL,
+  end_time    DATETIME(6)   NOT NULL,
+  status      VARCHAR(50)   NOT NULL DEFAULT 'WAITING',
+  purpose     VARCHAR(500)  NULL,
+  booking_id  VARCHAR(36)   NULL,
+  created_at  DATETIME(6)   NOT NULL,
+  updated_at  DATETIME(6)   NOT NULL,
+  INDEX idx_booking_waitlist_queue (resource_id, status, start_time, created_at),
+  INDEX idx_booking_waitlist_user_created (user_id, created_at, id),
+  INDEX idx_booking_waitlist_status_start (status, start_time)
+);
+
+-- Approval lock per resource: approvals lock the row of each resource before re-checking
+-- conflicts, so concurrent approvals of overlapping bookings cannot both confirm.
+CREATE TABLE IF NOT EXISTS booking_resource_locks (
+  resource_id VARCHAR(36)   NOT NULL PRIMARY KEY
+);
+
+-- Responses of booking writes sent with an Idempotency-Key, replayed to retries until
+-- expires_at (booking.idempotency.ttl-ms). id is SHA-256 of the caller's user id and key.
+CREATE TABLE IF NOT EXISTS booking_idempotency_keys (
+  id              CHAR(64)      NOT NULL PRIMARY KEY,
+  fingerprint     CHAR(64)      NOT NULL,
+  status          VARCHAR(20)   NOT NULL,
+  response_status INT           NULL,
+  content_type    VARCHAR(100)  NULL,
+  response_body   MEDIUMTEXT    NULL,
+  created_at      DATETIME(6)   NOT NULL,
+  expires_at      DATETIME(6)   NOT NULL,
+  INDEX idx_booking_idempotency_expires (expires_at)
+);
+
+-- Keyset pagination indexes (list endpoints seek on (filter, created_at, id)). The composite
+-- indexes also serve plain filter lookups, so they replace the single-column ones.
+-- ALTER TABLE user_profiles ADD INDEX idx_user_profiles_active_created (is_active, created_at, user_id);
+-- ALTER TABLE resources
+--   DROP INDEX idx_resources_type, DROP INDEX idx_resources_status,
+--   ADD INDEX idx_resources_created (created_at, id),
+--   ADD INDEX idx_resources_type_created (type, created_at, id),
+--   ADD INDEX idx_resources_status_created (status, created_at, id);
+-- ALTER TABLE bookings
+--   DROP INDEX idx_bookings_user_id, DROP INDEX idx_bookings_resource_id,
+--   ADD INDEX idx_bookings_user_created (user_id, created_at, id),
+--   ADD INDEX idx_bookings_resource_created (resource_id, created_at, id);
+
+-- Resource search indexes (GET /resources/search hints these by name; see ResourceSearchRepositoryImpl)
+-- ALTER TABLE resources
+--   ADD INDEX idx_resources_type_status_capacity (type, status, capacity),
+--   ADD INDEX idx_resources_status_capacity (status, capacity),
+--   ADD INDEX idx_resources_location (location);
+
+-- Resource version (optimistic locking; orders ResourceChanged events on crcs-resource-changed)
+-- ALTER TABLE resources ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Booking lifecycle worker sweeps (status, end_time) and (status, start_time) by cursor
+-- ALTER TABLE bookings
+--   ADD INDEX idx_bookings_status_end (status, end_time, id),
+--   ADD INDEX idx_bookings_status_start (status, start_time, id);
+
+-- Conflict detection seeks (resource_id, start_time) and filters end_time/status from the index
+-- entries. The single-column time/status indexes are covered by this and the status_* indexes.
+-- ALTER TABLE bookings
+--   DROP INDEX idx_bookings_start_time, DROP INDEX idx_bookings_end_time, DROP INDEX idx_bookings_status,
+--   ADD INDEX idx_bookings_resource_time (resource_id, start_time, end_time, status);
+
+-- Pending-approval queue (GET /bookings/pending) pages PENDING bookings by (created_at, id)
+-- ALTER TABLE bookings ADD INDEX idx_bookings_status_created (status, created_at, id);
@@ -3,9 +3,9 @@ package com.crcs.userservice.controller;
 import com.crcs.userservice.dto.request.CreateUserProfileRequestDTO;
 import com.crcs.userservice.dto.request.UpdateUserProfileRequestDTO;
 import com.crcs.userservice.dto.response.ApiResponseDTO;
-import com.crcs.userservice.dto.response.PageResponseDTO;
 import com.crcs.userservice.dto.response.UserProfileResponseDTO;
 import com.crcs.userservice.service.UserService;
+import com.crcs.common.pagination.PageResponseDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -59,9 +59,11 @@ public class UserController {
     @GetMapping
     public ResponseEntity<PageResponseDTO<UserProfileResponseDTO>> getAllUsers(
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "20") int size) {
-        logger.info("Fetching all users - page: {}, size: {}", page, size);
-        PageResponseDTO<UserProfileResponseDTO> users = userService.getAllUsers(page, size);
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "includeTotal", required = false) Boolean includeTotal) {
+        logger.info("Fetching all users - page: {}, size: {}, cursor: {}", page, size, cursor);
+        PageResponseDTO<UserProfileResponseDTO> users = userService.getAllUsers(page, size, cursor, includeTotal);
         return ResponseEntity.ok(users);
     }
 
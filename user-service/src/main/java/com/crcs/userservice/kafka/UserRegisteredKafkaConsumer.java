@@ -0,0 +1,50 @@
+package com.crcs.userservice.kafka;
+
+import com.crcs.common.dto.auth.UserRegisteredEvent;
+import com.crcs.userservice.service.UserService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates user profiles from auth-service signup events. Malformed events are logged and
+ * skipped; any other failure (e.g. the database being down) is rethrown so the listener
+ * container retries the record instead of committing past it.
+ */
+@Component
+public class UserRegisteredKafkaConsumer {
+    private static final Logger logger = LoggerFactory.getLogger(UserRegisteredKafkaConsumer.class);
+
+    private final UserService userService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public UserRegisteredKafkaConsumer(UserService userService) {
+        this.userService = userService;
+    }
+
+    @KafkaListener(topics = "${kafka.user-registered.topic:crcs-user-registered}", groupId = "${spring.kafka.consumer.group-id}")
+    public void consumeUserRegistered(@Payload String message) {
+        UserRegisteredEvent event;
+        try {
+            event = objectMapper.readValue(message, UserRegisteredEvent.class);
+        } catch (JsonProcessingException e) {
+            logger.error("Skipping malformed {} message", UserRegisteredEvent.EVENT_TYPE, e);
+            return;
+        }
+        if (event.getUserId() == null || event.getEmail() == null) {
+            logger.warn("Skipping {} event without userId or email", UserRegisteredEvent.EVENT_TYPE);
+            return;
+        }
+        try {
+            userService.createProfileIfAbsent(event);
+        } catch (DataIntegrityViolationException e) {
+            // Lost a race with a concurrent create for the same user; the profile exists
+            logger.debug("User profile for userId: {} created concurrently", event.getUserId());
+        }
+    }
+}
@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_profiles")
+@Table(name = "user_profiles", indexes = {
+        @Index(name = "idx_user_profiles_active_created", columnList = "is_active, created_at, user_id")
+})
 @Data
 @Builder
 @NoArgsConstructor
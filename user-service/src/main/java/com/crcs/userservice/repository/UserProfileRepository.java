@@ -4,8 +4,12 @@ import com.crcs.userservice.model.UserProfile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +17,18 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, String
     Optional<UserProfile> findByUserId(String userId);
     Optional<UserProfile> findByEmail(String email);
     Page<UserProfile> findByIsActiveTrue(Pageable pageable);
+
+    /**
+     * Keyset page of active profiles ordered by (createdAt DESC, userId DESC), starting after the
+     * cursor position or from the newest profile when the cursor is null. No COUNT query.
+     */
+    @Query("SELECT u FROM UserProfile u WHERE u.isActive = true " +
+           "AND (:cursorCreatedAt IS NULL OR u.createdAt < :cursorCreatedAt " +
+           "     OR (u.createdAt = :cursorCreatedAt AND u.userId < :cursorId)) " +
+           "ORDER BY u.createdAt DESC, u.userId DESC")
+    List<UserProfile> findActivePage(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                     @Param("cursorId") String cursorId,
+                                     Pageable pageable);
+
+    long countByIsActiveTrue();
 }
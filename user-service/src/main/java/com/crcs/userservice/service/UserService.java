@@ -1,9 +1,12 @@
 package com.crcs.userservice.service;
 
+import com.crcs.common.dto.auth.UserRegisteredEvent;
 import com.crcs.common.enums.UserRole;
+import com.crcs.common.pagination.KeysetPages;
+import com.crcs.common.pagination.PageCursor;
+import com.crcs.common.pagination.PageResponseDTO;
 import com.crcs.userservice.dto.request.CreateUserProfileRequestDTO;
 import com.crcs.userservice.dto.request.UpdateUserProfileRequestDTO;
-import com.crcs.userservice.dto.response.PageResponseDTO;
 import com.crcs.userservice.dto.response.UserProfileResponseDTO;
 import com.crcs.userservice.exception.UserNotFoundException;
 import com.crcs.userservice.model.UserProfile;
@@ -11,14 +14,11 @@ import com.crcs.userservice.repository.UserProfileRepository;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 public class UserService {
@@ -54,6 +54,32 @@ public class UserService {
         return mapToResponseDTO(profile);
     }
 
+    /**
+     * Create the profile announced by a USER_REGISTERED event. Idempotent: redelivered events,
+     * or a profile already created through an update, leave the existing row untouched.
+     *
+     * @return true if a profile was created
+     */
+    @Transactional
+    public boolean createProfileIfAbsent(UserRegisteredEvent event) {
+        if (userProfileRepository.existsById(event.getUserId())) {
+            logger.debug("User profile already exists for userId: {}, skipping", event.getUserId());
+            return false;
+        }
+        UserProfile profile = UserProfile.builder()
+                .userId(event.getUserId())
+                .email(event.getEmail())
+                .name(event.getName())
+                .role(UserRole.fromString(event.getRole()).getValue())
+                .isEmailVerified(false)
+                .isPhoneVerified(false)
+                .isActive(true)
+                .build();
+        userProfileRepository.save(profile);
+        logger.info("User profile created for userId: {} from registration event", event.getUserId());
+        return true;
+    }
+
     public UserProfileResponseDTO getProfile(String userId) {
         return userProfileRepository.findByUserId(userId)
                 .map(this::mapToResponseDTO)
@@ -100,21 +126,21 @@ public class UserService {
                 .build();
     }
 
-    public PageResponseDTO<UserProfileResponseDTO> getAllUsers(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<UserProfile> userPage = userProfileRepository.findByIsActiveTrue(pageable);
-        
-        return new PageResponseDTO<>(
-                userPage.getContent().stream()
-                        .map(this::mapToResponseDTO)
-                        .collect(Collectors.toList()),
-                userPage.getNumber(),
-                userPage.getSize(),
-                userPage.getTotalElements(),
-                userPage.getTotalPages(),
-                userPage.isLast(),
-                userPage.isFirst()
-        );
+    /**
+     * Active users, newest first, paged by keyset over (createdAt, userId). With a cursor, or on
+     * page 0, the query seeks straight to the position so every page costs the same; a bare
+     * {@code page > 0} falls back to OFFSET for older clients. The total is counted only when
+     * asked for, by default only for requests without a cursor.
+     */
+    public PageResponseDTO<UserProfileResponseDTO> getAllUsers(int page, int size, String cursor, Boolean includeTotal) {
+        return KeysetPages.load(
+                        (after, pageNumber, limit) -> userProfileRepository.findActivePage(
+                                after != null ? after.createdAt() : null, after != null ? after.id() : null,
+                                PageRequest.of(pageNumber, limit)),
+                        userProfileRepository::countByIsActiveTrue,
+                        profile -> new PageCursor(profile.getCreatedAt(), profile.getUserId()),
+                        page, size, cursor, includeTotal)
+                .map(this::mapToResponseDTO);
     }
 
     @Transactional